@@ -0,0 +1,16 @@
+@echo off
+cd /d "%~dp0"
+if not exist bin mkdir bin
+javac -d bin src\com\university\model\*.java src\com\university\service\*.java src\com\university\util\*.java src\com\university\exception\*.java src\com\university\metrics\*.java src\com\university\event\*.java src\com\university\cluster\*.java src\com\university\benchmark\*.java
+if %errorlevel% equ 0 (
+    echo.
+    echo ===== RUNNING BENCHMARKS =====
+    echo.
+    java -Xms2g -Xmx2g -cp bin com.university.benchmark.BenchmarkRunner %*
+) else (
+    echo.
+    echo ===== COMPILATION FAILED =====
+)
+echo.
+echo Press any key to close...
+pause > nul
@@ -1,2 +1,2 @@
 cd C:\Users\zenil\OneDrive\Desktop\university_course_management
-javac -d bin src\com\university\model\*.java src\com\university\service\*.java src\com\university\util\*.java src\com\university\exception\*.java src\com\university\Main.java
\ No newline at end of file
+javac -d bin src\com\university\model\*.java src\com\university\service\*.java src\com\university\util\*.java src\com\university\exception\*.java src\com\university\metrics\*.java src\com\university\event\*.java src\com\university\cluster\*.java src\com\university\Main.java
\ No newline at end of file
@@ -1,7 +1,7 @@
 @echo off
 cd /d "%~dp0"
 if not exist bin mkdir bin
-javac -d bin src\com\university\model\*.java src\com\university\service\*.java src\com\university\util\*.java src\com\university\exception\*.java src\com\university\Main.java
+javac -d bin src\com\university\model\*.java src\com\university\service\*.java src\com\university\util\*.java src\com\university\exception\*.java src\com\university\metrics\*.java src\com\university\event\*.java src\com\university\cluster\*.java src\com\university\Main.java
 if %errorlevel% equ 0 (
     echo.
     echo ===== COMPILATION SUCCESS =====
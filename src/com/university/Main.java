@@ -4,7 +4,23 @@ import com.university.model.*;
 import com.university.service.*;
 import com.university.util.*;
 import com.university.exception.*;
+import com.university.metrics.Metrics;
+import com.university.event.DashboardEventHandler;
+import com.university.event.DomainEventPublisher;
+import com.university.event.EventBus;
+import com.university.event.EventLogHandler;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
@@ -25,18 +41,37 @@ public class Main {
     private static Scanner scanner = new Scanner(System.in);
     private static StudentService studentService = new StudentService();
     private static EnrollmentService enrollmentService = new EnrollmentService();
+    private static TranscriptCache transcriptCache = new TranscriptCache(enrollmentService);
+    private static DashboardViews dashboard = new DashboardViews();
     private static List<Course> courses = new ArrayList<>();
     private static List<Instructor> instructors = new ArrayList<>();
     
     public static void main(String[] args) {
+        // Non-interactive mode: java com.university.Main --batch [file]  (stdin if no file)
+        if (args.length > 0 && args[0].equals("--batch")) {
+            runBatch(args.length > 1 ? args[1] : null);
+            return;
+        }
+        
         System.out.println("=".repeat(70));
         System.out.println("    UNIVERSITY COURSE MANAGEMENT SYSTEM");
         System.out.println("    OOP1 Assignment - Java 21 LTS Interactive Version");
         System.out.println("=".repeat(70));
         System.out.println();
         
+        // Expose service metrics over JMX (jconsole / VisualVM)
+        Metrics.registerMBeans();
+        
+        // Keep dashboard aggregates up to date: student changes directly, enrollment
+        // counts from the domain event bus, plus an optional audit log on the same
+        // bus: -Duniversity.eventLog=events.log
+        EventBus eventBus = startEventBus(System.getProperty("university.eventLog"));
+        dashboard.attachStudents(studentService, enrollmentService);
+        
         // Initialize with some sample data
         initializeSampleData();
+        System.out.println("✓ System initialized with " + courses.size() + " sample courses");
+        System.out.println();
         
         boolean running = true;
         while (running) {
@@ -47,6 +82,23 @@ public class Main {
         System.out.println("Thank you for using the University Management System!");
         System.out.println("=".repeat(70));
         scanner.close();
+        eventBus.shutdown();  // drain pending events into the dashboard and log
+    }
+
+    private static EventBus startEventBus(String logPath) {
+        var bus = new EventBus(1024);
+        bus.addHandler("dashboard", new DashboardEventHandler(dashboard));
+        if (logPath != null && !logPath.isBlank()) {
+            try {
+                bus.addHandler("event-log", new EventLogHandler(Files.newBufferedWriter(Path.of(logPath))));
+                System.out.println("Logging domain events to " + logPath);
+            } catch (IOException e) {
+                System.out.println("❌ Cannot open event log " + logPath + ": " + e.getMessage());
+            }
+        }
+        bus.start();
+        new DomainEventPublisher(bus).attach(studentService, enrollmentService);
+        return bus;
     }
 
     private static void initializeSampleData() {
@@ -81,9 +133,32 @@ public class Main {
         math101.setSchedule(new CourseSchedule("Tuesday", LocalTime.of(10, 0), 
             LocalTime.of(11, 30), "Room 201"));
         courses.add(math101);
-        
-        System.out.println("✓ System initialized with " + courses.size() + " sample courses");
-        System.out.println();
+    }
+
+    /**
+     * Apply a command file (or stdin) through BatchCommandProcessor.
+     * Results go to stdout, one line per command; the summary goes to stderr.
+     */
+    private static void runBatch(String file) {
+        initializeSampleData();
+        var processor = new BatchCommandProcessor(studentService, enrollmentService, transcriptCache, courses);
+        
+        try (BufferedReader in = file != null
+                 ? Files.newBufferedReader(Path.of(file))
+                 : new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8), 1 << 16)) {
+            // Bypass System.out's PrintStream so output is flushed per batch, not per line
+            var out = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8), 1 << 16);
+            BatchCommandProcessor.Summary summary = processor.run(in, out);
+            out.flush();
+            System.err.println(String.format("%d commands (%d ok, %d failed) in %.1f ms, %.0f commands/s",
+                summary.commands(), summary.succeeded(), summary.failed(),
+                summary.elapsedNanos() / 1e6, summary.commandsPerSecond()));
+            System.err.println(StringPool.SHARED.report());
+        } catch (IOException e) {
+            System.err.println("❌ Batch failed: " + e.getMessage());
+            System.exit(1);
+        }
     }
 
     private static boolean showMainMenu() {
@@ -272,8 +347,8 @@ public class Main {
             }
             
             Grade grade = grades[choice - 1];
-            enrollmentService.assignGrade(studentId, courseCode, grade);
-            student.addGrade(grade);
+            Grade previous = enrollmentService.assignGrade(studentId, courseCode, grade);
+            student.replaceGrade(previous, grade);  // a regrade swaps out the old grade
             
             System.out.println("✓ Grade " + grade + " assigned");
             System.out.println("New GPA: " + String.format("%.2f", student.getGPA()));
@@ -296,9 +371,13 @@ public class Main {
             return;
         }
         
-        List<Enrollment> enrollments = enrollmentService.getStudentEnrollments(studentId);
-        Transcript transcript = Transcript.createFromStudent(student, enrollments);
-        System.out.println("\n" + transcript.generateTranscriptReport());
+        // Served from memory until the student's enrollments or grades change
+        System.out.println("\n" + transcriptCache.getReport(student));
+
+        // Per-term breakdown, kept current as grades are recorded
+        enrollmentService.getTermCreditTotals(student.getStudentId()).forEach((term, totals) ->
+            System.out.println(String.format("  %-12s  %2d credits attempted, %2d earned, weighted GPA %.2f",
+                term, totals.attemptedCredits(), totals.earnedCredits(), totals.weightedGPA())));
     }
 
     private static void viewAllCourses() {
@@ -319,6 +398,10 @@ public class Main {
         System.out.println("1. Honor Roll Students (GPA >= 3.5)");
         System.out.println("2. Students by Major");
         System.out.println("3. All Instructors");
+        System.out.println("4. Registrar Dashboard");
+        System.out.println("5. String Pool Savings");
+        System.out.println("6. Term-End GPA & Standing Recompute");
+        System.out.println("7. Department Workload");
         System.out.print("Choice: ");
         
         try {
@@ -335,17 +418,51 @@ public class Main {
                     }
                 }
                 case 2 -> {
+                    DepartmentReport report = studentService.generateDepartmentReport();
                     for (DepartmentType dept : DepartmentType.values()) {
-                        List<Student> students = studentService.findByMajor(dept);
-                        System.out.println(dept.getFullName() + ": " + students.size() + " students");
+                        DepartmentSummary summary = report.get(dept);
+                        System.out.println(dept.getFullName() + ": " + summary.studentCount() + " students ("
+                            + summary.activeCount() + " active)");
+                        if (summary.studentCount() > 0) {
+                            System.out.println(String.format("  GPA avg %.2f  min %.2f  max %.2f  honor roll %d",
+                                summary.averageGPA(), summary.minGPA(), summary.maxGPA(), summary.honorRollCount()));
+                            for (AcademicStanding standing : AcademicStanding.values()) {
+                                int count = summary.count(standing);
+                                if (count > 0) {
+                                    System.out.println("    " + standing.getLabel() + ": " + count);
+                                }
+                            }
+                        }
                     }
+                    System.out.println(String.format("Total: %d students, average GPA %.2f, honor roll %d",
+                        report.totalStudents(), report.averageGPA(), report.totalHonorRoll()));
                 }
                 case 3 -> {
                     System.out.println("Instructors (" + instructors.size() + "):");
                     for (Instructor i : instructors) {
                         System.out.println("  " + i);
+                        System.out.println(String.format("    %d courses, %d credit hours, %d students",
+                            i.getCourseCount(), i.getCreditHours(), i.getEnrolledHeadcount()));
                     }
                 }
+                case 4 -> {
+                    System.out.println("Registrar Dashboard:");
+                    System.out.println(String.format("  Students: %d (%d active), honor roll: %d, average GPA: %.2f",
+                        dashboard.getStudentCount(), dashboard.getActiveCount(),
+                        dashboard.getHonorRollCount(), dashboard.getAverageGPA()));
+                    dashboard.getStudentsByMajor().forEach((dept, count) ->
+                        System.out.println("  " + dept.getFullName() + ": " + count));
+                    System.out.println("  Enrollment per course:");
+                    dashboard.getEnrollmentsByCourse().forEach((code, count) ->
+                        System.out.println("    " + code + ": " + count));
+                }
+                case 5 -> System.out.println(StringPool.SHARED.report());
+                case 6 -> runTermEndJob();
+                case 7 -> DepartmentWorkload.of(instructors).values().forEach(w ->
+                    System.out.println(String.format("%s: %d instructors, %d courses, %d credit hours "
+                            + "(avg %.1f, max %d), %d students",
+                        w.department().getFullName(), w.instructorCount(), w.courseCount(), w.creditHours(),
+                        w.averageCreditHours(), w.maxCreditHours(), w.enrolledHeadcount())));
                 default -> System.out.println("Invalid choice!");
             }
         } catch (NumberFormatException e) {
@@ -353,6 +470,36 @@ public class Main {
         }
     }
 
+    /**
+     * Recompute standings from the enrollment records and optionally apply them;
+     * a crashed run resumes from its checkpoint
+     */
+    private static void runTermEndJob() {
+        Path checkpoint = Path.of(System.getProperty("java.io.tmpdir"), "university-term-end.ckpt");
+        try {
+            var job = new TermEndRecomputeJob(studentService, enrollmentService);
+            var result = job.run(checkpoint);
+            System.out.println(String.format("Recomputed %d students in %d partitions (%d resumed) in %.1f ms",
+                result.students(), result.partitions(), result.resumedPartitions(), result.elapsedNanos() / 1e6));
+            System.out.println("Credit total mismatches: " + result.creditMismatches());
+            System.out.println("Standing changes: " + result.changes().size());
+            var out = new StringWriter();
+            result.writeDiff(out);
+            System.out.print(out);
+            if (!result.updates().isEmpty()) {
+                System.out.print("Apply recomputed GPA, standing and credits to "
+                    + result.updates().size() + " students? (y/n): ");
+                if (scanner.nextLine().trim().equalsIgnoreCase("y")) {
+                    System.out.println("✓ Updated " + job.apply(result) + " students");
+                }
+            }
+        } catch (IllegalStateException e) {
+            System.out.println("❌ " + e.getMessage() + " - run the job again");
+        } catch (IOException e) {
+            System.out.println("❌ Term-end job failed: " + e.getMessage());
+        }
+    }
+
     private static void demonstrateOOP() {
         System.out.println("=".repeat(70));
         System.out.println("OOP FEATURES DEMONSTRATION");
@@ -424,10 +571,7 @@ public class Main {
     }
 
     private static Student findStudent(String id) {
-        return studentService.getAllStudents().stream()
-            .filter(s -> s.getStudentId().equals(id))
-            .findFirst()
-            .orElse(null);
+        return studentService.findById(id);
     }
 
     private static Course findCourse(String code) {
@@ -0,0 +1,197 @@
+package com.university.benchmark;
+
+import com.university.event.EventBus;
+import com.university.model.Course;
+import com.university.model.DepartmentType;
+import com.university.model.Enrollment;
+import com.university.model.Grade;
+import com.university.model.Student;
+import com.university.model.Transcript;
+import com.university.service.EnrollmentService;
+import com.university.service.OffHeapEnrollmentTable;
+import com.university.service.PackedEnrollmentTable;
+import com.university.util.ValidationUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark suite for the service and model hot paths.
+ *
+ * Usage:
+ *   java -cp bin com.university.benchmark.BenchmarkRunner [sizes] [warmup] [iterations]
+ *   e.g. ... BenchmarkRunner 1000,10000,100000,1000000 3 5
+ *
+ * For every dataset size it reports ns/op, ops/s, bytes allocated per op
+ * and GC count/time during measurement.
+ */
+public class BenchmarkRunner {
+
+    private static final int[] DEFAULT_SIZES = {1_000, 10_000, 100_000};
+    private static final int OPS = 1_000;  // operations per iteration for cheap paths
+    private static final int ROSTER_LIMIT = 64;  // students per rotating enrollStudent course
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = args.length > 0 ? parseSizes(args[0]) : DEFAULT_SIZES;
+        int warmup = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        var harness = new Harness(warmup, iterations);
+        List<Harness.Result> results = new ArrayList<>();
+
+        for (int size : sizes) {
+            System.out.println("Building dataset of " + size + " students...");
+            Dataset data = Dataset.build(size);
+            results.addAll(runAll(harness, data));
+        }
+
+        printResults(results);
+    }
+
+    private static List<Harness.Result> runAll(Harness harness, Dataset data) throws Exception {
+        List<Harness.Result> results = new ArrayList<>();
+        int size = data.size;
+        List<Student> students = data.students;
+        EnrollmentService enrollments = data.enrollmentService;
+
+        // ---- EnrollmentService ----
+        // Fresh students are enrolled on every call so each op takes the full path.
+        // Course.enrollStudent scans its roster, so a new course is rotated in every
+        // ROSTER_LIMIT ops to keep roster size (and per-op cost) the same across iterations.
+        Course[] rotating = new Course[1];
+        int[] rotated = new int[1];
+        results.add(harness.measure("EnrollmentService.enrollStudent", size, OPS, i -> {
+            if (rotating[0] == null || rotating[0].getEnrolled() >= ROSTER_LIMIT) {
+                rotating[0] = new Course("BENR" + rotated[0]++, "Benchmark Rotating Course",
+                    DepartmentType.ARTS, 3, Integer.MAX_VALUE);
+            }
+            var student = new Student("Bench", "Enroll", "b@tus.ie", DepartmentType.ARTS);
+            enrollments.enrollStudent(student, rotating[0]);
+            return enrollments.getEnrollmentCount();
+        }));
+
+        results.add(harness.measure("EnrollmentService.assignGrade", size, OPS, i -> {
+            int index = i % size;
+            enrollments.assignGrade(students.get(index).getStudentId(), data.firstCourseCodes[index], Grade.B);
+            return 1;
+        }));
+
+        results.add(harness.measure("EnrollmentService.getStudentEnrollments", size, OPS / 10, i ->
+            enrollments.getStudentEnrollments(students.get(i % size).getStudentId()).size()));
+
+        // ---- Enrollment stores: the same records, heap service vs packed and off-heap tables ----
+        // Pair lookups hit the per-student index in the service and the pair index in the table
+        results.add(harness.measure("EnrollmentService.getCourseEnrollments", size, 10, i ->
+            enrollments.getCourseEnrollments(data.firstCourseCodes[i % size]).size()));
+
+        PackedEnrollmentTable packed = PackedEnrollmentTable.of(enrollments.getAllEnrollments());
+        results.add(harness.measure("PackedEnrollmentTable.find", size, OPS * 10, i -> {
+            int index = i % size;
+            return packed.find(students.get(index).getStudentId(), data.firstCourseCodes[index]);
+        }));
+        results.add(harness.measure("PackedEnrollmentTable.getStudentEnrollments", size, OPS, i ->
+            packed.getStudentEnrollments(students.get(i % size).getStudentId()).size()));
+        results.add(harness.measure("PackedEnrollmentTable.countCourseEnrollments", size, OPS * 10, i ->
+            packed.countCourseEnrollments(data.firstCourseCodes[i % size])));
+
+        try (var offHeap = new OffHeapEnrollmentTable(enrollments.getEnrollmentCount())) {
+            for (Enrollment enrollment : enrollments.getAllEnrollments()) {
+                offHeap.add(enrollment);
+            }
+            results.add(harness.measure("OffHeapEnrollmentTable.find", size, OPS * 10, i -> {
+                int index = i % size;
+                return offHeap.find(students.get(index).getStudentId(), data.firstCourseCodes[index]);
+            }));
+            results.add(harness.measure("OffHeapEnrollmentTable.getStudentEnrollments", size, OPS, i ->
+                offHeap.getStudentEnrollments(students.get(i % size).getStudentId()).size()));
+            results.add(harness.measure("OffHeapEnrollmentTable.countGraded", size, OPS * 10, i ->
+                offHeap.countGraded(offHeap.getStudentIds().lookup(students.get(i % size).getStudentId()))));
+        }
+
+        // ---- StudentService ----
+        results.add(harness.measure("StudentService.filterStudents", size, 10, i ->
+            data.studentService.filterStudents(s -> s.getGPA() >= 3.0).size()));
+
+        results.add(harness.measure("StudentService.findTopPerformers", size, 10, i ->
+            data.studentService.findTopPerformers(10).size()));
+
+        results.add(harness.measure("StudentService.findByMajor (all depts)", size, 10, i -> {
+            int total = 0;
+            for (DepartmentType dept : DepartmentType.values()) {
+                total += data.studentService.findByMajor(dept).size();
+            }
+            return total;
+        }));
+
+        results.add(harness.measure("StudentService.generateDepartmentReport", size, 10, i ->
+            data.studentService.generateDepartmentReport().totalStudents()));
+
+        // ---- Model ----
+        var gradedStudent = new Student("Bench", "Grades", "g@tus.ie", DepartmentType.MATHEMATICS);
+        results.add(harness.measure("Student.addGrade", size, OPS, i -> {
+            gradedStudent.addGrade(Grade.A_MINUS);
+            return (long) gradedStudent.getGPA();
+        }));
+
+        Student transcriptStudent = students.get(0);
+        List<Enrollment> snapshot = enrollments.getStudentSnapshot(transcriptStudent.getStudentId());
+        // A fresh transcript per op: the report is memoized once rendered
+        results.add(harness.measure("Transcript.generateTranscriptReport", size, OPS, i ->
+            Transcript.createFromStudent(transcriptStudent, snapshot)
+                .generateTranscriptReport().length()));
+        results.add(harness.measure("Transcript.createFromStudent(snapshot)", size, OPS, i ->
+            Transcript.createFromStudent(transcriptStudent, snapshot).getEnrollments().size()));
+
+        results.add(harness.measure("Grade.fromPercentage", size, OPS * 100, i ->
+            Grade.fromPercentage(i % 101).ordinal()));
+
+        // ---- ValidationUtil ----
+        String[] emails = {"s.jones@tus.ie", "bad-email", "a@b.c", "x@@y.z"};
+        String[] phones = {"(087) 123-4567", "0871234567", "12-34"};
+        String[] ids = {"STU00042", "STU1234567", "STX00001"};
+        String[] codes = {"CS101", "MATH1010", "X1"};
+        results.add(harness.measure("ValidationUtil.isValidEmail", size, OPS * 100, i ->
+            ValidationUtil.isValidEmail(emails[i & 3]) ? 1 : 0));
+        results.add(harness.measure("ValidationUtil.isValidPhone", size, OPS * 100, i ->
+            ValidationUtil.isValidPhone(phones[i % 3]) ? 1 : 0));
+        results.add(harness.measure("ValidationUtil.isValidStudentId", size, OPS * 100, i ->
+            ValidationUtil.isValidStudentId(ids[i % 3]) ? 1 : 0));
+        results.add(harness.measure("ValidationUtil.isValidCourseCode", size, OPS * 100, i ->
+            ValidationUtil.isValidCourseCode(codes[i % 3]) ? 1 : 0));
+
+        // ---- EventBus ----
+        try (var bus = new EventBus(4096)) {
+            bus.addHandler("noop", (event, sequence, endOfBatch) -> { });
+            bus.start();
+            Student publisher = students.get(0);
+            String courseCode = data.firstCourseCodes[0];
+            results.add(harness.measure("EventBus.publishEnrolled", size, OPS * 100, i -> {
+                bus.publishEnrolled(publisher.getStudentId(), courseCode);
+                return i;
+            }));
+        }
+
+        return results;
+    }
+
+    private static void printResults(List<Harness.Result> results) {
+        System.out.println();
+        System.out.println(String.format("%-42s %10s %14s %14s %12s %6s %8s",
+            "Benchmark", "Size", "ns/op", "ops/s", "B/op", "GCs", "GC ms"));
+        System.out.println("-".repeat(112));
+        for (Harness.Result r : results) {
+            System.out.println(String.format("%-42s %10d %14.1f %14.0f %12.1f %6d %8d",
+                r.name(), r.size(), r.nanosPerOp(), r.opsPerSecond(), r.bytesPerOp(),
+                r.gcCount(), r.gcMillis()));
+        }
+    }
+
+    private static int[] parseSizes(String arg) {
+        String[] parts = arg.split(",");
+        int[] sizes = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            sizes[i] = Integer.parseInt(parts[i].trim());
+        }
+        return sizes;
+    }
+}
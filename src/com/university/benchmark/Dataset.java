@@ -0,0 +1,67 @@
+package com.university.benchmark;
+
+import com.university.model.Course;
+import com.university.model.Enrollment;
+import com.university.model.Instructor;
+import com.university.model.Student;
+import com.university.service.DatasetGenerator;
+import com.university.service.EnrollmentService;
+import com.university.service.StudentService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark dataset of a given size, streamed into the services by the
+ * seeded DatasetGenerator so every run sees the same population.
+ */
+final class Dataset {
+
+    private static final long SEED = 42L;
+
+    final int size;
+    final StudentService studentService = new StudentService();
+    final EnrollmentService enrollmentService = new EnrollmentService();
+    final List<Student> students;
+    final String[] firstCourseCodes;   // one existing enrollment per student
+
+    private Dataset(int size) {
+        this.size = size;
+        this.students = new ArrayList<>(size);
+        this.firstCourseCodes = new String[size];
+    }
+
+    static Dataset build(int size) {
+        var dataset = new Dataset(size);
+        var serviceSink = new DatasetGenerator.ServiceSink(dataset.studentService, dataset.enrollmentService);
+
+        new DatasetGenerator(DatasetGenerator.Config.forStudents(SEED, size)).generate(
+            new DatasetGenerator.DatasetSink() {
+                @Override
+                public void instructor(Instructor instructor) {
+                    serviceSink.instructor(instructor);
+                }
+
+                @Override
+                public void course(Course course) {
+                    serviceSink.course(course);
+                }
+
+                @Override
+                public void student(Student student) {
+                    serviceSink.student(student);
+                    dataset.students.add(student);
+                }
+
+                @Override
+                public void enrollment(Student student, Course course, Enrollment enrollment) {
+                    serviceSink.enrollment(student, course, enrollment);
+                    int index = dataset.students.size() - 1;
+                    if (dataset.firstCourseCodes[index] == null) {
+                        dataset.firstCourseCodes[index] = course.getCourseCode();
+                    }
+                }
+            });
+        return dataset;
+    }
+}
@@ -0,0 +1,118 @@
+package com.university.benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Minimal micro-benchmark harness built on the JDK only.
+ *
+ * Each benchmark runs warmup iterations (to let the JIT compile the hot
+ * path) followed by measured iterations. For every measured iteration it
+ * records wall time, bytes allocated by the benchmark thread
+ * (com.sun.management.ThreadMXBean) and garbage collector count/time.
+ * Results are consumed by a sink so the JIT cannot remove the work.
+ *
+ * OOP Features Demonstrated:
+ * - Functional interfaces
+ * - Records for results
+ * - Management API (MXBeans)
+ */
+public final class Harness {
+
+    /**
+     * One benchmark operation. Receives the operation index and returns a
+     * value that is fed to the sink.
+     */
+    @FunctionalInterface
+    public interface Operation {
+        long run(int index) throws Exception;
+    }
+
+    /**
+     * Result of one benchmark at one dataset size
+     */
+    public record Result(
+        String name,
+        int size,
+        double nanosPerOp,
+        double bytesPerOp,
+        long gcCount,
+        long gcMillis
+    ) {
+        public double opsPerSecond() {
+            return nanosPerOp > 0 ? 1_000_000_000.0 / nanosPerOp : 0.0;
+        }
+    }
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final List<GarbageCollectorMXBean> COLLECTORS =
+        ManagementFactory.getGarbageCollectorMXBeans();
+
+    private static volatile long sink;  // blackhole
+
+    private final int warmupIterations;
+    private final int measureIterations;
+
+    public Harness(int warmupIterations, int measureIterations) {
+        this.warmupIterations = warmupIterations;
+        this.measureIterations = measureIterations;
+        if (THREADS.isThreadAllocatedMemorySupported()) {
+            THREADS.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    /**
+     * Run {@code opsPerIteration} operations per iteration and report averages
+     */
+    public Result measure(String name, int size, int opsPerIteration, Operation operation) throws Exception {
+        for (int i = 0; i < warmupIterations; i++) {
+            runIteration(opsPerIteration, operation);
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcMillis();
+        long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < measureIterations; i++) {
+            runIteration(opsPerIteration, operation);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        long bytes = THREADS.getThreadAllocatedBytes(threadId) - bytesBefore;
+        long totalOps = (long) opsPerIteration * measureIterations;
+
+        return new Result(name, size,
+            (double) elapsed / totalOps,
+            bytes < 0 ? Double.NaN : (double) bytes / totalOps,
+            gcCount() - gcCountBefore,
+            gcMillis() - gcTimeBefore);
+    }
+
+    private static void runIteration(int ops, Operation operation) throws Exception {
+        long accumulator = 0;
+        for (int i = 0; i < ops; i++) {
+            accumulator += operation.run(i);
+        }
+        sink += accumulator;
+    }
+
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS) {
+            total += Math.max(0, collector.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS) {
+            total += Math.max(0, collector.getCollectionTime());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,365 @@
+package com.university.cluster;
+
+import com.university.exception.CourseFullException;
+import com.university.exception.EnrollmentException;
+import com.university.model.Course;
+import com.university.model.Enrollment;
+import com.university.model.Grade;
+import com.university.model.Student;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Client side of the enrollment cluster
+ *
+ * Routes every course operation to the node owning the course on the
+ * ConsistentHashRing and coordinates operations that span nodes:
+ * - addStudent replicates the student to every node
+ * - enrollAll enrolls one student in several courses atomically with
+ *   two-phase commit (PREPARE on every owner, then COMMIT or ABORT)
+ * - getStudentEnrollments scatters to every node in parallel and gathers
+ *
+ * Keeps one connection per node; calls on a connection are serialized, so
+ * a client can be shared between threads. A node that does not answer
+ * within CALL_TIMEOUT_MILLIS fails the call and its connection is dropped,
+ * so a late reply can never be read as the answer to the next request.
+ *
+ * OOP Features Demonstrated:
+ * - AutoCloseable (try-with-resources)
+ * - Private nested classes
+ * - CompletableFuture scatter-gather
+ */
+public class ClusterClient implements AutoCloseable {
+
+    static final int CONNECT_TIMEOUT_MILLIS = 5_000;
+    static final int CALL_TIMEOUT_MILLIS = 10_000;
+    static final int COMMIT_ATTEMPTS = 3;
+    static final long COMMIT_RETRY_MILLIS = 200;
+
+    private final ConsistentHashRing ring;
+    private final Map<String, Connection> connections = new LinkedHashMap<>();
+    private final ExecutorService scatter = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ClusterClient(List<NodeAddress> nodes) {
+        this.ring = new ConsistentHashRing(nodes);
+        for (NodeAddress node : ring.getNodes()) {
+            connections.put(node.id(), new Connection(node));
+        }
+    }
+
+    public ConsistentHashRing getRing() {
+        return ring;
+    }
+
+    public NodeAddress nodeFor(String courseCode) {
+        return ring.ownerOf(courseCode);
+    }
+
+    // ---- routed to the owning node ----
+
+    public void addCourse(Course course) throws EnrollmentException {
+        connectionFor(course.getCourseCode()).call(Protocol.ADD_COURSE, course.getCourseCode(),
+            course.getCourseName(), course.getDepartment().name(),
+            Integer.toString(course.getCredits()), Integer.toString(course.getCapacity()));
+    }
+
+    public Enrollment enroll(String studentId, String courseCode) throws EnrollmentException {
+        String[] response = connectionFor(courseCode).call(Protocol.ENROLL, studentId, courseCode);
+        return Protocol.readEnrollments(response, 1).get(0);
+    }
+
+    public void assignGrade(String studentId, String courseCode, Grade grade) throws EnrollmentException {
+        connectionFor(courseCode).call(Protocol.GRADE, studentId, courseCode, grade.name());
+    }
+
+    public boolean dropCourse(String studentId, String courseCode) throws EnrollmentException {
+        return Boolean.parseBoolean(connectionFor(courseCode).call(Protocol.DROP, studentId, courseCode)[1]);
+    }
+
+    // ---- coordinated across nodes ----
+
+    /**
+     * Replicate a student (or an active-status change) to every node
+     */
+    public void addStudent(Student student) throws EnrollmentException {
+        for (Connection connection : connections.values()) {
+            connection.call(Protocol.ADD_STUDENT, student.getStudentId(), student.getFirstName(),
+                student.getLastName(), student.getEmail(), student.getMajor().name(),
+                Boolean.toString(student.isActive()));
+        }
+    }
+
+    /**
+     * Enroll a student in every course or in none
+     *
+     * Phase one asks each owning node to reserve a seat; if any node refuses
+     * (full, already enrolled, unreachable) every reservation made so far is
+     * aborted and the refusal is thrown.
+     *
+     * Phase two commits on the decision holder - the owner of the first
+     * course - first. Its answer decides the transaction: if it refuses
+     * (e.g. the reservation expired) the rest are aborted and nothing is
+     * enrolled anywhere; once it commits, every other participant is
+     * committed too. COMMIT is retried on nodes that do not answer, and is
+     * safe to repeat. A node that still does not answer settles its part
+     * with the decision holder itself when its reservation expires, so the
+     * outcome is the same on every node; the exception then says which
+     * node has not confirmed yet.
+     */
+    public List<Enrollment> enrollAll(String studentId, String... courseCodes) throws EnrollmentException {
+        if (courseCodes.length == 0) {
+            return new ArrayList<>();
+        }
+        String txId = UUID.randomUUID().toString();
+        Connection holder = connectionFor(courseCodes[0]);
+        Map<String, Connection> participants = new LinkedHashMap<>();
+        try {
+            for (String courseCode : courseCodes) {
+                Connection connection = connectionFor(courseCode);
+                participants.put(connection.node.id(), connection);
+                connection.call(Protocol.PREPARE, txId, studentId, courseCode, holder.node.id());
+            }
+        } catch (EnrollmentException e) {
+            abortAll(participants.values(), txId, e);
+            throw e;
+        }
+
+        List<Enrollment> enrolled = new ArrayList<>();
+        try {
+            enrolled.addAll(Protocol.readEnrollments(commit(holder, txId), 1));
+        } catch (EnrollmentException e) {
+            if (!answered(e)) {
+                throw new EnrollmentException("Outcome of transaction " + txId + " unknown: "
+                    + holder.node.id() + " did not confirm the commit; the other nodes settle it with "
+                    + holder.node.id() + " when their reservations expire", e);
+            }
+            abortAll(participants.values(), txId, e);  // the holder refused: aborted everywhere
+            throw e;
+        }
+
+        List<String> unconfirmed = new ArrayList<>();
+        EnrollmentException firstFailure = null;
+        for (Connection connection : participants.values()) {
+            if (connection == holder) {
+                continue;
+            }
+            try {
+                enrolled.addAll(Protocol.readEnrollments(commit(connection, txId), 1));
+            } catch (EnrollmentException e) {
+                unconfirmed.add(connection.node.id());
+                firstFailure = firstFailure == null ? e : firstFailure;
+            }
+        }
+        if (firstFailure != null) {
+            throw new EnrollmentException("Transaction " + txId + " committed, but " + unconfirmed
+                + " did not confirm; they apply it when they settle with " + holder.node.id(), firstFailure);
+        }
+        return enrolled;
+    }
+
+    /**
+     * COMMIT, retried while the node does not answer; a node's own refusal is not retried
+     */
+    private static String[] commit(Connection connection, String txId) throws EnrollmentException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return connection.call(Protocol.COMMIT, txId);
+            } catch (EnrollmentException e) {
+                if (answered(e) || attempt == COMMIT_ATTEMPTS) {
+                    throw e;
+                }
+                try {
+                    Thread.sleep(COMMIT_RETRY_MILLIS * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static void abortAll(Iterable<Connection> participants, String txId, EnrollmentException cause) {
+        for (Connection connection : participants) {
+            try {
+                connection.call(Protocol.ABORT, txId);
+            } catch (EnrollmentException abortFailure) {
+                cause.addSuppressed(abortFailure);  // the node's reservation will expire
+            }
+        }
+    }
+
+    /**
+     * True if the node answered with an error, false if it could not be
+     * reached or timed out (Connection.call wraps those IOExceptions)
+     */
+    private static boolean answered(EnrollmentException e) {
+        return !(e.getCause() instanceof IOException);
+    }
+
+    /**
+     * A student's records from every node, fetched in parallel
+     */
+    public List<Enrollment> getStudentEnrollments(String studentId) throws EnrollmentException {
+        List<CompletableFuture<String[]>> responses = new ArrayList<>();
+        for (Connection connection : connections.values()) {
+            responses.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return connection.call(Protocol.ENROLLMENTS, studentId);
+                } catch (EnrollmentException e) {
+                    throw new CompletionException(e);
+                }
+            }, scatter));
+        }
+
+        List<Enrollment> result = new ArrayList<>();
+        for (CompletableFuture<String[]> response : responses) {
+            try {
+                result.addAll(Protocol.readEnrollments(response.join(), 1));
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof EnrollmentException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Per-node counts: courses, students, enrollments, open transactions
+     */
+    public Map<String, int[]> getStats() throws EnrollmentException {
+        Map<String, int[]> stats = new LinkedHashMap<>();
+        for (Connection connection : connections.values()) {
+            String[] r = connection.call(Protocol.STATS);
+            stats.put(connection.node.id(), new int[] {
+                Integer.parseInt(r[1]), Integer.parseInt(r[2]), Integer.parseInt(r[3]), Integer.parseInt(r[4])});
+        }
+        return stats;
+    }
+
+    public boolean ping(NodeAddress node) {
+        try {
+            connections.get(node.id()).call(Protocol.PING);
+            return true;
+        } catch (EnrollmentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Ask every node process to stop
+     */
+    public void shutdownCluster() {
+        for (Connection connection : connections.values()) {
+            try {
+                connection.call(Protocol.SHUTDOWN);
+            } catch (EnrollmentException e) {
+                // already down
+            }
+            connection.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        connections.values().forEach(Connection::close);
+        scatter.shutdown();
+    }
+
+    private Connection connectionFor(String courseCode) {
+        return connections.get(ring.ownerOf(courseCode).id());
+    }
+
+    /**
+     * One lazily opened socket per node; reconnects after a failure.
+     * Also used by ClusterNode to ask a decision holder for an outcome.
+     * Calls are serialized with a ReentrantLock rather than the monitor, so
+     * a virtual thread waiting for a reply does not pin its carrier.
+     */
+    static final class Connection {
+        private final NodeAddress node;
+        private final ReentrantLock lock = new ReentrantLock();
+        private Socket socket;
+        private BufferedReader in;
+        private BufferedWriter out;
+
+        Connection(NodeAddress node) {
+            this.node = node;
+        }
+
+        String[] call(String... request) throws EnrollmentException {
+            lock.lock();
+            try {
+                if (socket == null) {
+                    socket = new Socket();
+                    socket.connect(new InetSocketAddress(node.host(), node.port()), CONNECT_TIMEOUT_MILLIS);
+                    socket.setTcpNoDelay(true);
+                    socket.setSoTimeout(CALL_TIMEOUT_MILLIS);
+                    in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                    out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+                }
+                out.write(Protocol.line(request));
+                out.newLine();
+                out.flush();
+                String line = in.readLine();
+                if (line == null) {
+                    throw new IOException("connection closed");
+                }
+                String[] response = Protocol.split(line);
+                if (Protocol.OK.equals(response[0])) {
+                    return response;
+                }
+                String reason = response.length > 1 ? response[1] : "ERROR";
+                String message = response.length > 2 ? response[2] : line;
+                if (Protocol.COURSE_FULL.equals(reason) && response.length > 4) {
+                    throw new CourseFullException(response[3], Integer.parseInt(response[4]));
+                }
+                throw new EnrollmentException(node.id() + " " + reason + ": " + message);
+            } catch (SocketTimeoutException e) {
+                close();
+                throw new EnrollmentException("Node " + node + " did not answer within "
+                    + CALL_TIMEOUT_MILLIS + " ms", e);
+            } catch (IOException e) {
+                close();
+                throw new EnrollmentException("Node " + node + " unreachable", e);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void close() {
+            lock.lock();
+            try {
+                if (socket != null) {
+                    try {
+                        socket.close();
+                    } catch (IOException e) {
+                        // ignore
+                    }
+                    socket = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.university.cluster;
+
+import com.university.exception.EnrollmentException;
+import com.university.model.Course;
+import com.university.model.DepartmentType;
+import com.university.model.Enrollment;
+import com.university.model.Student;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Runs a cluster as separate JVM processes on localhost and exercises it
+ *
+ * Starts one ClusterNode process per node (same java binary and class
+ * path as this JVM), routes courses and students to them, enrolls every
+ * student in several courses with two-phase commit, reads transcripts back
+ * with scatter-gather and prints the per-node distribution.
+ *
+ * Usage:
+ *   java -cp bin com.university.cluster.ClusterDemo [nodes] [students] [basePort]
+ *   e.g. ... ClusterDemo 3 2000 7101
+ *
+ * OOP Features Demonstrated:
+ * - ProcessBuilder (multi-process testing)
+ * - Try-with-resources
+ */
+public class ClusterDemo {
+
+    private static final int COURSES = 60;
+    private static final int COURSES_PER_STUDENT = 4;
+
+    public static void main(String[] args) throws Exception {
+        int nodeCount = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        int studentCount = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        int basePort = args.length > 2 ? Integer.parseInt(args[2]) : 7_101;
+
+        List<NodeAddress> nodes = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add(new NodeAddress("n" + (i + 1), "localhost", basePort + i));
+        }
+        String nodeList = String.join(",", nodes.stream().map(NodeAddress::toString).toList());
+
+        List<Process> processes = new ArrayList<>();
+        try {
+            for (NodeAddress node : nodes) {
+                processes.add(launch(node, nodeList));
+            }
+            try (var client = new ClusterClient(nodes)) {
+                awaitNodes(client, nodes);
+                run(client, studentCount);
+                client.shutdownCluster();
+            }
+        } finally {
+            for (Process process : processes) {
+                if (process.isAlive()) {
+                    process.destroy();
+                }
+            }
+        }
+    }
+
+    private static Process launch(NodeAddress node, String nodeList) throws Exception {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        return new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                ClusterNode.class.getName(), node.id(), nodeList)
+            .redirectOutput(ProcessBuilder.Redirect.INHERIT)
+            .redirectError(ProcessBuilder.Redirect.INHERIT)
+            .start();
+    }
+
+    private static void awaitNodes(ClusterClient client, List<NodeAddress> nodes) throws InterruptedException {
+        for (NodeAddress node : nodes) {
+            long deadline = System.currentTimeMillis() + 15_000;
+            while (!client.ping(node)) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw new IllegalStateException("Node " + node + " did not start");
+                }
+                Thread.sleep(100);
+            }
+        }
+    }
+
+    private static void run(ClusterClient client, int studentCount) throws EnrollmentException {
+        var random = new SplittableRandom(42);
+        DepartmentType[] depts = DepartmentType.values();
+
+        List<String> courseCodes = new ArrayList<>();
+        for (int i = 0; i < COURSES; i++) {
+            DepartmentType dept = depts[i % depts.length];
+            String code = dept.getCode() + (1000 + i);
+            client.addCourse(new Course(code, dept.getFullName() + " " + i, dept, 5,
+                studentCount * COURSES_PER_STUDENT / COURSES + 10));
+            courseCodes.add(code);
+        }
+
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < studentCount; i++) {
+            var student = new Student("First" + i, "Last" + i, "student" + i + "@tus.ie", depts[i % depts.length]);
+            client.addStudent(student);
+            students.add(student);
+        }
+
+        long start = System.nanoTime();
+        int enrolled = 0;
+        int rejected = 0;
+        for (Student student : students) {
+            String[] picks = new String[COURSES_PER_STUDENT];
+            for (int k = 0; k < picks.length; k++) {
+                picks[k] = courseCodes.get(random.nextInt(courseCodes.size()));
+            }
+            try {
+                enrolled += client.enrollAll(student.getStudentId(), picks).size();
+            } catch (EnrollmentException e) {
+                rejected++;  // e.g. the same course picked twice: nothing is applied
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        int gathered = 0;
+        for (Student student : students) {
+            List<Enrollment> records = client.getStudentEnrollments(student.getStudentId());
+            gathered += records.size();
+        }
+
+        System.out.println();
+        System.out.println(String.format("Enrolled %d records for %d students in %.1f ms (%d transactions aborted)",
+            enrolled, studentCount - rejected, elapsed / 1e6, rejected));
+        System.out.println("Scatter-gather read back " + gathered + " records");
+        List<Double> ownership = client.getRing().getOwnership();
+        List<NodeAddress> ringNodes = client.getRing().getNodes();
+        for (Map.Entry<String, int[]> entry : client.getStats().entrySet()) {
+            int[] s = entry.getValue();
+            int index = ringNodes.indexOf(client.getRing().getNode(entry.getKey()));
+            System.out.println(String.format("  %s: ring %.1f%%, %d courses, %d students, %d enrollments, %d open tx",
+                entry.getKey(), ownership.get(index) * 100, s[0], s[1], s[2], s[3]));
+        }
+        if (gathered != enrolled) {
+            throw new IllegalStateException("Read back " + gathered + " records but enrolled " + enrolled);
+        }
+    }
+}
@@ -0,0 +1,545 @@
+package com.university.cluster;
+
+import com.university.exception.CourseFullException;
+import com.university.exception.EnrollmentException;
+import com.university.model.Course;
+import com.university.model.DepartmentType;
+import com.university.model.Enrollment;
+import com.university.model.Grade;
+import com.university.model.Student;
+import com.university.service.EnrollmentService;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * One process of the enrollment cluster
+ *
+ * Owns the courses whose codes hash into its ranges of the
+ * ConsistentHashRing and keeps their seats and enrollment records in a
+ * local EnrollmentService. Students are replicated to every node by the
+ * client so any node can validate them locally.
+ *
+ * Cross-node work for one student (enrolling in courses owned by different
+ * nodes) uses two-phase commit driven by ClusterClient: PREPARE reserves a
+ * seat and the student/course pair, COMMIT turns the reservations into
+ * enrollments, ABORT releases them. A held pair also blocks a plain ENROLL
+ * of the same pair. Everything is validated at PREPARE; COMMIT applies the
+ * held reservations without re-checking, so a prepared transaction commits
+ * in full even if, say, the student is deactivated between the phases.
+ *
+ * Every PREPARE names the transaction's decision holder, the node owning
+ * its first course. The holder's COMMIT is the commit decision: it is
+ * refused once the holder's reservation has passed
+ * RESERVATION_TIMEOUT_MILLIS, and the client only commits elsewhere after
+ * it succeeded. Each node records the outcome of every transaction it
+ * resolved, so a retried COMMIT returns the same enrollments and a late
+ * one fails the same way. A reservation that is never resolved is settled
+ * by the resolver thread once it expires: the holder aborts it, and any
+ * other node asks the holder (STATUS) and commits or aborts to match -
+ * or keeps holding while the holder is unreachable. A crashed client
+ * therefore cannot hold seats forever, and an expired transaction ends
+ * the same way on every node. Reservations and decisions are kept in
+ * memory only.
+ *
+ * Each connection is served by its own virtual thread; node state changes
+ * are serialized on the node's monitor. The resolver calls other nodes
+ * without holding it.
+ *
+ * Usage:
+ *   java -cp bin com.university.cluster.ClusterNode n1 n1@localhost:7101,n2@localhost:7102
+ *
+ * OOP Features Demonstrated:
+ * - Composition (EnrollmentService, ConsistentHashRing)
+ * - Records (reservations)
+ * - Try-with-resources on sockets
+ */
+public class ClusterNode implements AutoCloseable {
+
+    static final long RESERVATION_TIMEOUT_MILLIS = 30_000;
+    static final long RESOLVE_INTERVAL_MILLIS = 1_000;
+    static final long DECISION_RETENTION_MILLIS = 10 * 60_000;  // long enough for any client retry
+
+    private final NodeAddress self;
+    private final ConsistentHashRing ring;
+    private final EnrollmentService enrollmentService = new EnrollmentService();
+    private final Map<String, Course> courses = new HashMap<>();
+    private final Map<String, Student> students = new HashMap<>();
+    private final Map<String, Transaction> transactions = new HashMap<>();
+    private final Map<String, Decision> decisions = new HashMap<>();  // tx ID -> outcome, once resolved here
+    private final Map<String, ClusterClient.Connection> peers = new ConcurrentHashMap<>();  // used by the resolver
+    private final Map<String, Integer> reservedSeats = new HashMap<>();  // course code -> held by PREPARE
+    private final Set<String> reservedPairs = new HashSet<>();  // studentId \t courseCode
+    private final ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor();
+    private ServerSocket serverSocket;
+    private volatile boolean running;
+
+    private record Reservation(String studentId, String courseCode) {
+        String pairKey() {
+            return studentId + "\t" + courseCode;
+        }
+    }
+
+    private record Transaction(String holderId, List<Reservation> reservations, long deadline) {}
+
+    private record Decision(boolean committed, String response, long decidedAt) {}
+
+    public ClusterNode(NodeAddress self, ConsistentHashRing ring) {
+        if (ring.getNode(self.id()) == null) {
+            throw new IllegalArgumentException("Node " + self.id() + " is not part of the ring");
+        }
+        this.self = self;
+        this.ring = ring;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ClusterNode <node-id> <id@host:port,id@host:port,...>");
+            System.exit(1);
+        }
+        var ring = new ConsistentHashRing(NodeAddress.parseList(args[1]));
+        NodeAddress self = ring.getNode(args[0]);
+        if (self == null) {
+            System.err.println("Node " + args[0] + " is not in the node list");
+            System.exit(1);
+        }
+        var node = new ClusterNode(self, ring);
+        node.start();
+        System.out.println("Node " + self + " listening");
+        node.awaitShutdown();
+    }
+
+    public void start() throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(self.host(), self.port()));
+        running = true;
+        Thread.ofPlatform().name("cluster-accept-" + self.id()).start(this::acceptLoop);
+        Thread.ofVirtual().name("cluster-resolver-" + self.id()).start(this::resolveLoop);
+    }
+
+    public void awaitShutdown() {
+        synchronized (this) {
+            while (running) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            running = false;
+            notifyAll();
+        }
+        try {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+        } catch (IOException e) {
+            // already closed
+        }
+        connections.shutdownNow();
+        peers.values().forEach(ClusterClient.Connection::close);
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (running) {
+                    System.err.println("Accept failed on " + self + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             var in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             var out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            socket.setTcpNoDelay(true);
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] request = Protocol.split(line);
+                out.write(handle(request));
+                out.newLine();
+                // Flush only when the client has no further pipelined requests waiting
+                if (!in.ready()) {
+                    out.flush();
+                }
+                if (Protocol.SHUTDOWN.equals(request[0])) {
+                    out.flush();
+                    close();
+                    return;
+                }
+            }
+        } catch (SocketException e) {
+            // client went away
+        } catch (IOException e) {
+            System.err.println("Connection error on " + self + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Dispatch one request; always returns a response line
+     */
+    String handle(String[] request) {
+        try {
+            return switch (request[0]) {
+                case Protocol.PING -> Protocol.line(Protocol.OK, self.id());
+                case Protocol.ADD_COURSE -> addCourse(request);
+                case Protocol.ADD_STUDENT -> addStudent(request);
+                case Protocol.ENROLL -> enroll(request[1], request[2]);
+                case Protocol.PREPARE -> prepare(request[1], request[2], request[3], request[4]);
+                case Protocol.COMMIT -> commit(request[1]);
+                case Protocol.ABORT -> abort(request[1]);
+                case Protocol.STATUS -> status(request[1]);
+                case Protocol.GRADE -> grade(request[1], request[2], Grade.valueOf(request[3]));
+                case Protocol.DROP -> drop(request[1], request[2]);
+                case Protocol.ENROLLMENTS -> enrollments(request[1]);
+                case Protocol.STATS -> stats();
+                case Protocol.SHUTDOWN -> Protocol.line(Protocol.OK, self.id());
+                default -> error(Protocol.BAD_REQUEST, "Unknown command " + request[0]);
+            };
+        } catch (CourseFullException e) {
+            return courseFull(e.getCourseCode(), e.getCapacity());
+        } catch (EnrollmentException e) {
+            return error(Protocol.REJECTED, e.getMessage());
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            return error(Protocol.BAD_REQUEST, String.valueOf(e.getMessage()));
+        }
+    }
+
+    private synchronized String addCourse(String[] r) {
+        String code = r[1];
+        if (!owns(code)) {
+            return notOwner(code);
+        }
+        courses.putIfAbsent(code, new Course(code, r[2], DepartmentType.valueOf(r[3]),
+            Integer.parseInt(r[4]), Integer.parseInt(r[5])));
+        return Protocol.OK;
+    }
+
+    private synchronized String addStudent(String[] r) {
+        Student student = students.get(r[1]);
+        if (student == null) {
+            student = new Student(r[1], r[2], r[3], r[4], DepartmentType.valueOf(r[5]));
+            students.put(student.getStudentId(), student);
+        }
+        student.setActive(Boolean.parseBoolean(r[6]));
+        return Protocol.OK;
+    }
+
+    private synchronized String enroll(String studentId, String courseCode) throws EnrollmentException {
+        String check = checkEnrollable(studentId, courseCode);
+        if (check != null) {
+            return check;
+        }
+        if (reservedPairs.contains(new Reservation(studentId, courseCode).pairKey())) {
+            return error(Protocol.ALREADY_ENROLLED, "Enrollment already pending for this course");
+        }
+        Enrollment enrollment = enrollmentService.enrollStudent(students.get(studentId), courses.get(courseCode));
+        List<String> fields = new ArrayList<>();
+        fields.add(Protocol.OK);
+        Protocol.appendEnrollment(fields, enrollment);
+        return Protocol.line(fields.toArray(new String[0]));
+    }
+
+    /**
+     * Phase one: hold a seat and the student/course pair for a transaction
+     */
+    private synchronized String prepare(String txId, String studentId, String courseCode, String holderId) {
+        if (ring.getNode(holderId) == null) {
+            return error(Protocol.BAD_REQUEST, "Unknown decision holder " + holderId);
+        }
+        if (decisions.containsKey(txId)) {
+            return error(Protocol.TRANSACTION_ABORTED, "Transaction " + txId + " is already resolved");
+        }
+        String check = checkEnrollable(studentId, courseCode);
+        if (check != null) {
+            return check;
+        }
+        if (!students.get(studentId).isActive()) {
+            return error(Protocol.INACTIVE_STUDENT, "Student is not active");
+        }
+        if (enrollmentService.getStudentEnrollments(studentId).stream()
+                .anyMatch(e -> e.courseCode().equals(courseCode))) {
+            return error(Protocol.ALREADY_ENROLLED, "Student already enrolled in this course");
+        }
+
+        var reservation = new Reservation(studentId, courseCode);
+        if (!reservedPairs.add(reservation.pairKey())) {
+            return error(Protocol.ALREADY_ENROLLED, "Enrollment already pending for this course");
+        }
+        reservedSeats.merge(courseCode, 1, Integer::sum);
+        transactions.computeIfAbsent(txId, id -> new Transaction(holderId, new ArrayList<>(),
+                System.currentTimeMillis() + RESERVATION_TIMEOUT_MILLIS))
+            .reservations().add(reservation);
+        return Protocol.OK;
+    }
+
+    /**
+     * Phase two: turn every reservation of the transaction into an enrollment.
+     * On the decision holder this is the commit decision, refused once the
+     * reservation has expired; elsewhere the client only sends it after the
+     * holder committed, so it is applied whatever the local deadline.
+     * Repeating a resolved COMMIT returns the recorded outcome.
+     */
+    private synchronized String commit(String txId) throws EnrollmentException {
+        Decision decided = decisions.get(txId);
+        if (decided != null) {
+            return decided.committed() ? decided.response()
+                : error(Protocol.TRANSACTION_ABORTED, "Transaction " + txId + " was aborted");
+        }
+        Transaction tx = transactions.get(txId);
+        if (tx == null) {
+            return error(Protocol.UNKNOWN_TRANSACTION, "No prepared transaction " + txId);
+        }
+        if (isHolder(tx) && tx.deadline() < System.currentTimeMillis()) {
+            abortLocally(txId, tx);
+            return error(Protocol.TRANSACTION_ABORTED, "Transaction " + txId + " expired before it was committed");
+        }
+        return applyCommit(txId, tx);
+    }
+
+    /**
+     * PREPARE already validated each reservation and has held its seat and
+     * pair since, so they are loaded as-is rather than re-checked one by one -
+     * a failed re-check halfway through would leave the transaction partly committed.
+     */
+    private String applyCommit(String txId, Transaction tx) throws EnrollmentException {
+        transactions.remove(txId);
+        tx.reservations().forEach(this::release);  // the held seats are taken for real below
+        List<String> fields = new ArrayList<>();
+        fields.add(Protocol.OK);
+        LocalDate today = LocalDate.now();
+        for (Reservation reservation : tx.reservations()) {
+            var enrollment = new Enrollment(reservation.studentId(), reservation.courseCode(), today);
+            enrollmentService.loadEnrollment(students.get(reservation.studentId()),
+                courses.get(reservation.courseCode()), enrollment);
+            Protocol.appendEnrollment(fields, enrollment);
+        }
+        String response = Protocol.line(fields.toArray(new String[0]));
+        decisions.put(txId, new Decision(true, response, System.currentTimeMillis()));
+        return response;
+    }
+
+    private synchronized String abort(String txId) {
+        Decision decided = decisions.get(txId);
+        if (decided != null && decided.committed()) {
+            return error(Protocol.REJECTED, "Transaction " + txId + " is already committed");
+        }
+        Transaction tx = transactions.get(txId);
+        if (tx != null) {
+            abortLocally(txId, tx);
+        } else {
+            // Unknown here: remember the abort so a late PREPARE or COMMIT fails too
+            decisions.putIfAbsent(txId, new Decision(false, null, System.currentTimeMillis()));
+        }
+        return Protocol.OK;
+    }
+
+    /**
+     * Outcome of a transaction, asked of its decision holder by the other
+     * participants: COMMITTED, ABORTED, or PENDING while it can still commit.
+     * An expired or unknown transaction is aborted here and then (presumed
+     * abort), so the client's COMMIT can no longer succeed after the answer.
+     */
+    private synchronized String status(String txId) {
+        Decision decided = decisions.get(txId);
+        if (decided != null) {
+            return Protocol.line(Protocol.OK, decided.committed() ? Protocol.COMMITTED : Protocol.ABORTED);
+        }
+        Transaction tx = transactions.get(txId);
+        if (tx != null && (!isHolder(tx) || tx.deadline() >= System.currentTimeMillis())) {
+            return Protocol.line(Protocol.OK, Protocol.PENDING);
+        }
+        if (tx != null) {
+            abortLocally(txId, tx);
+        } else {
+            decisions.put(txId, new Decision(false, null, System.currentTimeMillis()));
+        }
+        return Protocol.line(Protocol.OK, Protocol.ABORTED);
+    }
+
+    private void abortLocally(String txId, Transaction tx) {
+        transactions.remove(txId);
+        tx.reservations().forEach(this::release);
+        decisions.put(txId, new Decision(false, null, System.currentTimeMillis()));
+    }
+
+    private boolean isHolder(Transaction tx) {
+        return tx.holderId().equals(self.id());
+    }
+
+    private synchronized String grade(String studentId, String courseCode, Grade grade) throws EnrollmentException {
+        if (!owns(courseCode)) {
+            return notOwner(courseCode);
+        }
+        Grade previous = enrollmentService.assignGrade(studentId, courseCode, grade);
+        Student student = students.get(studentId);
+        if (student != null) {
+            student.replaceGrade(previous, grade);  // a regrade swaps out the old grade
+        }
+        return Protocol.OK;
+    }
+
+    private synchronized String drop(String studentId, String courseCode) {
+        if (!owns(courseCode)) {
+            return notOwner(courseCode);
+        }
+        Course course = courses.get(courseCode);
+        boolean dropped = enrollmentService.dropCourse(studentId, courseCode, course);
+        if (dropped && course != null && students.containsKey(studentId)) {
+            course.removeStudent(students.get(studentId));  // free the seat
+        }
+        return Protocol.line(Protocol.OK, Boolean.toString(dropped));
+    }
+
+    private synchronized String enrollments(String studentId) {
+        List<String> fields = new ArrayList<>();
+        fields.add(Protocol.OK);
+        for (Enrollment enrollment : enrollmentService.getStudentEnrollments(studentId)) {
+            Protocol.appendEnrollment(fields, enrollment);
+        }
+        return Protocol.line(fields.toArray(new String[0]));
+    }
+
+    private synchronized String stats() {
+        return Protocol.line(Protocol.OK, Integer.toString(courses.size()), Integer.toString(students.size()),
+            Integer.toString(enrollmentService.getEnrollmentCount()), Integer.toString(transactions.size()));
+    }
+
+    /**
+     * Common checks for ENROLL and PREPARE; returns an error line or null
+     */
+    private String checkEnrollable(String studentId, String courseCode) {
+        if (!owns(courseCode)) {
+            return notOwner(courseCode);
+        }
+        Course course = courses.get(courseCode);
+        if (course == null) {
+            return error(Protocol.UNKNOWN_COURSE, "Unknown course " + courseCode);
+        }
+        if (!students.containsKey(studentId)) {
+            return error(Protocol.UNKNOWN_STUDENT, "Unknown student " + studentId);
+        }
+        if (course.getAvailableSeats() - reservedSeats.getOrDefault(courseCode, 0) <= 0) {
+            return courseFull(courseCode, course.getCapacity());
+        }
+        return null;
+    }
+
+    private void release(Reservation reservation) {
+        reservedPairs.remove(reservation.pairKey());
+        reservedSeats.computeIfPresent(reservation.courseCode(), (code, held) -> held > 1 ? held - 1 : null);
+    }
+
+    private void resolveLoop() {
+        while (running) {
+            try {
+                Thread.sleep(RESOLVE_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            resolveExpiredTransactions();
+        }
+    }
+
+    /**
+     * Settle reservations past their deadline: the holder aborts its own,
+     * other nodes follow the holder's answer. Holders are asked without
+     * holding this node's monitor, so two nodes asking each other cannot
+     * deadlock; a holder that cannot be reached is asked again next round.
+     */
+    void resolveExpiredTransactions() {
+        Map<String, String> undecided = new HashMap<>();  // tx ID -> holder to ask
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            decisions.values().removeIf(d -> d.decidedAt() < now - DECISION_RETENTION_MILLIS);
+            for (var entry : new ArrayList<>(transactions.entrySet())) {
+                Transaction tx = entry.getValue();
+                if (tx.deadline() >= now) {
+                    continue;
+                }
+                if (isHolder(tx)) {
+                    abortLocally(entry.getKey(), tx);
+                } else {
+                    undecided.put(entry.getKey(), tx.holderId());
+                }
+            }
+        }
+
+        for (var entry : undecided.entrySet()) {
+            String txId = entry.getKey();
+            String outcome;
+            try {
+                outcome = peer(entry.getValue()).call(Protocol.STATUS, txId)[1];
+            } catch (EnrollmentException e) {
+                continue;  // keep holding until the holder answers
+            }
+            synchronized (this) {
+                Transaction tx = transactions.get(txId);
+                if (tx == null) {
+                    continue;  // the client's COMMIT or ABORT arrived meanwhile
+                }
+                if (Protocol.COMMITTED.equals(outcome)) {
+                    try {
+                        applyCommit(txId, tx);
+                    } catch (EnrollmentException e) {
+                        System.err.println("Resolving " + txId + " on " + self + " failed: " + e.getMessage());
+                    }
+                } else if (Protocol.ABORTED.equals(outcome)) {
+                    abortLocally(txId, tx);
+                }
+            }
+        }
+    }
+
+    private ClusterClient.Connection peer(String nodeId) {
+        return peers.computeIfAbsent(nodeId, id -> new ClusterClient.Connection(ring.getNode(id)));
+    }
+
+    private boolean owns(String courseCode) {
+        return ring.ownerOf(courseCode).id().equals(self.id());
+    }
+
+    private String notOwner(String courseCode) {
+        return error(Protocol.NOT_OWNER, courseCode + " is owned by " + ring.ownerOf(courseCode).id());
+    }
+
+    private static String courseFull(String courseCode, int capacity) {
+        return Protocol.line(Protocol.ERR, Protocol.COURSE_FULL,
+            new CourseFullException(courseCode, capacity).getMessage(), courseCode, Integer.toString(capacity));
+    }
+
+    private static String error(String reason, String message) {
+        return Protocol.line(Protocol.ERR, reason, message);
+    }
+}
@@ -0,0 +1,103 @@
+package com.university.cluster;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Consistent-hash ring mapping course codes to owning nodes
+ *
+ * Each node is placed at VIRTUAL_NODES points on a 64-bit ring; a key is
+ * owned by the first point at or after its hash (wrapping around). Adding
+ * or removing a node only moves the keys between it and its neighbours,
+ * and the virtual points keep the ranges evenly sized.
+ *
+ * The ring is a pure function of the node list, so every client and node
+ * given the same list agrees on ownership without any coordination service.
+ *
+ * OOP Features Demonstrated:
+ * - Encapsulation
+ * - NavigableMap (TreeMap ceiling lookup)
+ */
+public final class ConsistentHashRing {
+
+    static final int VIRTUAL_NODES = 128;
+
+    private final NavigableMap<Long, NodeAddress> ring = new TreeMap<>();
+    private final List<NodeAddress> nodes;
+
+    public ConsistentHashRing(List<NodeAddress> nodes) {
+        if (nodes == null || nodes.isEmpty()) {
+            throw new IllegalArgumentException("Ring needs at least one node");
+        }
+        this.nodes = List.copyOf(nodes);
+        for (NodeAddress node : this.nodes) {
+            for (int v = 0; v < VIRTUAL_NODES; v++) {
+                NodeAddress previous = ring.put(hash(node.id() + "#" + v), node);
+                if (previous != null && !previous.id().equals(node.id())) {
+                    throw new IllegalArgumentException("Hash collision between " + previous + " and " + node);
+                }
+            }
+        }
+    }
+
+    public NodeAddress ownerOf(String key) {
+        Map.Entry<Long, NodeAddress> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public List<NodeAddress> getNodes() {
+        return nodes;
+    }
+
+    public NodeAddress getNode(String id) {
+        for (NodeAddress node : nodes) {
+            if (node.id().equals(id)) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Fraction of the ring owned by each node, in node-list order
+     */
+    public List<Double> getOwnership() {
+        double[] share = new double[nodes.size()];
+        long previous = ring.lastKey();
+        for (Map.Entry<Long, NodeAddress> entry : ring.entrySet()) {
+            long span = entry.getKey() - previous;  // wraps correctly in two's complement
+            share[nodes.indexOf(entry.getValue())] += unsigned(span);
+            previous = entry.getKey();
+        }
+        List<Double> result = new ArrayList<>(share.length);
+        for (double s : share) {
+            result.add(s / Math.pow(2, 64));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static double unsigned(long value) {
+        return value >= 0 ? value : value + Math.pow(2, 64);
+    }
+
+    /**
+     * 64-bit FNV-1a over the key's chars, finished with a murmur3 mix
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
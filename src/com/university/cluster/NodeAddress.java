@@ -0,0 +1,58 @@
+package com.university.cluster;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Record identifying one cluster node
+ *
+ * Written as id@host:port, e.g. n1@localhost:7101; lists are comma-separated.
+ *
+ * OOP Features Demonstrated:
+ * - Records
+ * - Static factory methods
+ */
+public record NodeAddress(String id, String host, int port) {
+
+    public NodeAddress {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Node ID cannot be empty");
+        }
+        if (host == null || host.isBlank()) {
+            throw new IllegalArgumentException("Host cannot be empty");
+        }
+        if (port < 1 || port > 65_535) {
+            throw new IllegalArgumentException("Invalid port: " + port);
+        }
+    }
+
+    public static NodeAddress parse(String text) {
+        int at = text.indexOf('@');
+        int colon = text.lastIndexOf(':');
+        if (at <= 0 || colon < at + 2 || colon == text.length() - 1) {
+            throw new IllegalArgumentException("Expected id@host:port but got: " + text);
+        }
+        return new NodeAddress(text.substring(0, at).trim(), text.substring(at + 1, colon).trim(),
+            Integer.parseInt(text.substring(colon + 1).trim()));
+    }
+
+    public static List<NodeAddress> parseList(String text) {
+        List<NodeAddress> nodes = new ArrayList<>();
+        for (String part : text.split(",")) {
+            if (!part.isBlank()) {
+                nodes.add(parse(part.trim()));
+            }
+        }
+        return nodes;
+    }
+
+    public InetSocketAddress toSocketAddress() {
+        return new InetSocketAddress(host, port);
+    }
+
+    @Override
+    public String toString() {
+        return id + "@" + host + ":" + port;
+    }
+}
@@ -0,0 +1,108 @@
+package com.university.cluster;
+
+import com.university.model.Enrollment;
+import com.university.model.Grade;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wire protocol shared by ClusterNode and ClusterClient
+ *
+ * One request or response per line, fields separated by tabs:
+ *   request:  COMMAND \t field \t field ...
+ *   response: OK \t field ...   or   ERR \t REASON \t message
+ * Tabs and line breaks inside values are replaced by spaces on encode.
+ *
+ * OOP Features Demonstrated:
+ * - Utility class (private constructor, static methods)
+ * - Static constants
+ */
+final class Protocol {
+
+    static final String PING = "PING";
+    static final String ADD_COURSE = "ADD_COURSE";
+    static final String ADD_STUDENT = "ADD_STUDENT";
+    static final String ENROLL = "ENROLL";
+    static final String PREPARE = "PREPARE";
+    static final String COMMIT = "COMMIT";
+    static final String ABORT = "ABORT";
+    static final String STATUS = "STATUS";
+    static final String GRADE = "GRADE";
+    static final String DROP = "DROP";
+    static final String ENROLLMENTS = "ENROLLMENTS";
+    static final String STATS = "STATS";
+    static final String SHUTDOWN = "SHUTDOWN";
+
+    static final String OK = "OK";
+    static final String ERR = "ERR";
+
+    // STATUS answers - the outcome of a two-phase commit transaction
+    static final String COMMITTED = "COMMITTED";
+    static final String ABORTED = "ABORTED";
+    static final String PENDING = "PENDING";
+
+    // Error reasons - the RejectionReason names where one applies
+    static final String COURSE_FULL = "COURSE_FULL";
+    static final String INACTIVE_STUDENT = "INACTIVE_STUDENT";
+    static final String ALREADY_ENROLLED = "ALREADY_ENROLLED";
+    static final String REJECTED = "REJECTED";
+    static final String NOT_OWNER = "NOT_OWNER";
+    static final String UNKNOWN_STUDENT = "UNKNOWN_STUDENT";
+    static final String UNKNOWN_COURSE = "UNKNOWN_COURSE";
+    static final String UNKNOWN_TRANSACTION = "UNKNOWN_TRANSACTION";
+    static final String TRANSACTION_ABORTED = "TRANSACTION_ABORTED";
+    static final String BAD_REQUEST = "BAD_REQUEST";
+
+    static final int ENROLLMENT_FIELDS = 4;
+    private static final String NO_GRADE = "-";
+
+    private Protocol() {
+    }
+
+    static String line(String... fields) {
+        var sb = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                sb.append('\t');
+            }
+            appendClean(sb, fields[i]);
+        }
+        return sb.toString();
+    }
+
+    static String[] split(String line) {
+        return line.split("\t", -1);
+    }
+
+    static void appendClean(StringBuilder sb, String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            sb.append(c == '\t' || c == '\n' || c == '\r' ? ' ' : c);
+        }
+    }
+
+    static void appendEnrollment(List<String> fields, Enrollment enrollment) {
+        fields.add(enrollment.studentId());
+        fields.add(enrollment.courseCode());
+        fields.add(enrollment.enrollmentDate().toString());
+        fields.add(enrollment.isGraded() ? enrollment.finalGrade().name() : NO_GRADE);
+    }
+
+    /**
+     * Decode consecutive enrollments starting at fields[from]
+     */
+    static List<Enrollment> readEnrollments(String[] fields, int from) {
+        List<Enrollment> result = new ArrayList<>();
+        for (int i = from; i + ENROLLMENT_FIELDS <= fields.length; i += ENROLLMENT_FIELDS) {
+            String grade = fields[i + 3];
+            result.add(new Enrollment(fields[i], fields[i + 1], LocalDate.parse(fields[i + 2]),
+                NO_GRADE.equals(grade) ? null : Grade.valueOf(grade)));
+        }
+        return result;
+    }
+}
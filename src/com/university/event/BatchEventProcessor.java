@@ -0,0 +1,58 @@
+package com.university.event;
+
+/**
+ * Consumer loop that runs one EventHandler on its own thread
+ *
+ * Each pass handles every event published since the last pass as one batch
+ * and then advances this consumer's sequence once, releasing those slots to
+ * the producers. A handler exception is reported and skipped so one bad
+ * event cannot stall the ring.
+ *
+ * OOP Features Demonstrated:
+ * - Runnable implementation
+ * - Composition (ring, barrier, handler)
+ */
+public final class BatchEventProcessor implements Runnable {
+
+    private final RingBuffer ringBuffer;
+    private final SequenceBarrier barrier;
+    private final EventHandler handler;
+    private final Sequence sequence = new Sequence(-1);
+
+    BatchEventProcessor(RingBuffer ringBuffer, EventHandler handler) {
+        this.ringBuffer = ringBuffer;
+        this.barrier = new SequenceBarrier(ringBuffer);
+        this.handler = handler;
+    }
+
+    public Sequence getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public void run() {
+        long nextSequence = sequence.get() + 1;
+        while (true) {
+            long available = barrier.waitFor(nextSequence);
+            while (nextSequence <= available) {
+                DomainEvent event = ringBuffer.get(nextSequence);
+                try {
+                    handler.onEvent(event, nextSequence, nextSequence == available);
+                } catch (Exception e) {
+                    System.err.println("Event handler failed on " + event + ": " + e);
+                }
+                nextSequence++;
+            }
+            sequence.set(nextSequence - 1);
+
+            // Only stop once everything claimed before the halt has been handled
+            if (barrier.isAlerted() && sequence.get() >= ringBuffer.getCursor()) {
+                return;
+            }
+        }
+    }
+
+    void halt() {
+        barrier.alert();
+    }
+}
@@ -0,0 +1,39 @@
+package com.university.event;
+
+import com.university.service.DashboardViews;
+
+/**
+ * Bus subscriber maintaining DashboardViews' per-course enrollment counts
+ *
+ * ENROLLED and DROPPED events are applied on the bus thread, so enrolling
+ * and dropping only pay for a publish; the counts trail the
+ * EnrollmentService by the bus backlog. Pair with
+ * DashboardViews.attachStudents, which leaves enrollment counting to this
+ * handler.
+ *
+ * OOP Features Demonstrated:
+ * - Implementing a functional interface with a class
+ * - Switch on an enum
+ */
+public class DashboardEventHandler implements EventHandler {
+
+    private final DashboardViews views;
+
+    public DashboardEventHandler(DashboardViews views) {
+        if (views == null) {
+            throw new IllegalArgumentException("Dashboard views cannot be null");
+        }
+        this.views = views;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+        switch (event.getType()) {
+            case ENROLLED -> views.courseEnrolled(event.getCourseCode());
+            case DROPPED -> views.courseDropped(event.getCourseCode());
+            default -> {
+                // student and grade changes reach the views directly
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.university.event;
+
+import com.university.model.DepartmentType;
+import com.university.model.Grade;
+
+/**
+ * One pre-allocated slot of the RingBuffer
+ *
+ * Slots are created once when the ring is built and overwritten in place by
+ * every publish, which is what keeps publishing allocation-free. Handlers
+ * must copy anything they want to keep - the slot is reused once every
+ * handler has moved past it.
+ *
+ * Unused fields for an event type are null (e.g. grade for ENROLLED).
+ *
+ * OOP Features Demonstrated:
+ * - Mutable flyweight object
+ * - Encapsulation (package-private setter)
+ */
+public final class DomainEvent {
+    private EventType type;
+    private String studentId;
+    private String courseCode;
+    private Grade grade;
+    private Grade previousGrade;
+    private DepartmentType major;
+    private long timestamp;
+
+    DomainEvent() {
+    }
+
+    void set(EventType type, String studentId, String courseCode,
+             Grade grade, Grade previousGrade, DepartmentType major) {
+        this.type = type;
+        this.studentId = studentId;
+        this.courseCode = courseCode;
+        this.grade = grade;
+        this.previousGrade = previousGrade;
+        this.major = major;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    public EventType getType() {
+        return type;
+    }
+
+    public String getStudentId() {
+        return studentId;
+    }
+
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    public Grade getGrade() {
+        return grade;
+    }
+
+    public Grade getPreviousGrade() {
+        return previousGrade;
+    }
+
+    public DepartmentType getMajor() {
+        return major;
+    }
+
+    /**
+     * Wall-clock time the event was published, in epoch milliseconds
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DomainEvent{type=%s, student=%s, course=%s, grade=%s, previous=%s, major=%s}",
+            type, studentId, courseCode, grade, previousGrade, major);
+    }
+}
@@ -0,0 +1,61 @@
+package com.university.event;
+
+import com.university.model.Enrollment;
+import com.university.model.Student;
+import com.university.model.StudentObserver;
+import com.university.service.EnrollmentListener;
+import com.university.service.EnrollmentService;
+import com.university.service.StudentService;
+
+/**
+ * Bridges the services' change callbacks onto the EventBus
+ *
+ * Registered as a StudentObserver and EnrollmentListener, so the services
+ * publish StudentAdded/Enrolled/Dropped/Graded events at the same points
+ * where they update their own state - and nothing heavier than a publish
+ * happens on the request thread.
+ *
+ * OOP Features Demonstrated:
+ * - Adapter pattern
+ * - Implementing multiple interfaces
+ */
+public class DomainEventPublisher implements StudentObserver, EnrollmentListener {
+
+    private final EventBus bus;
+
+    public DomainEventPublisher(EventBus bus) {
+        if (bus == null) {
+            throw new IllegalArgumentException("Event bus cannot be null");
+        }
+        this.bus = bus;
+    }
+
+    /**
+     * Start publishing changes from both services. Students already in the
+     * service are published once as STUDENT_ADDED.
+     */
+    public void attach(StudentService studentService, EnrollmentService enrollmentService) {
+        studentService.addStudentObserver(this);
+        enrollmentService.addEnrollmentListener(this);
+    }
+
+    @Override
+    public void onStudentAdded(Student student) {
+        bus.publishStudentAdded(student.getStudentId(), student.getMajor());
+    }
+
+    @Override
+    public void onEnrolled(Enrollment enrollment) {
+        bus.publishEnrolled(enrollment.studentId(), enrollment.courseCode());
+    }
+
+    @Override
+    public void onDropped(Enrollment enrollment) {
+        bus.publishDropped(enrollment.studentId(), enrollment.courseCode());
+    }
+
+    @Override
+    public void onGraded(Enrollment previous, Enrollment graded) {
+        bus.publishGraded(graded.studentId(), graded.courseCode(), graded.finalGrade(), previous.finalGrade());
+    }
+}
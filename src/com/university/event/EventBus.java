@@ -0,0 +1,188 @@
+package com.university.event;
+
+import com.university.model.DepartmentType;
+import com.university.model.Grade;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Disruptor-style domain event bus
+ *
+ * Producers (the services, through DomainEventPublisher) write into a
+ * pre-allocated RingBuffer; each registered EventHandler runs on its own
+ * daemon thread behind a SequenceBarrier and consumes events in batches.
+ * Subscribers (the dashboard's per-course counts, the audit log) therefore
+ * run off the request thread, which only pays for a sequence claim and a
+ * few field stores.
+ *
+ * Only state that may lag the services belongs here. Credit totals and the
+ * TranscriptCache version checks are read back on the request path and stay
+ * inline in EnrollmentService. DashboardViews takes its enrollment counts
+ * from the bus (DashboardEventHandler) but still observes students
+ * directly, since GPA/major/active changes are not bus events.
+ *
+ * Handlers are independent: each sees every event in publish order, and the
+ * slowest handler decides when a slot can be reused.
+ *
+ * After shutdown() the handlers no longer gate the ring and publish() drops
+ * events (counted by getDroppedCount()), so a publisher that is still
+ * attached keeps running instead of parking on a ring nobody drains.
+ *
+ * Usage:
+ *   var bus = new EventBus(1024);
+ *   bus.addHandler("dashboard", new DashboardEventHandler(views));
+ *   bus.addHandler("event-log", new EventLogHandler(writer));
+ *   bus.start();
+ *   new DomainEventPublisher(bus).attach(studentService, enrollmentService);
+ *   ...
+ *   bus.shutdown();  // drains outstanding events first
+ *
+ * OOP Features Demonstrated:
+ * - Facade over RingBuffer / SequenceBarrier / BatchEventProcessor
+ * - AutoCloseable (try-with-resources)
+ */
+public class EventBus implements AutoCloseable {
+
+    private final RingBuffer ringBuffer;
+    private final List<BatchEventProcessor> processors = new ArrayList<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean started;
+    private volatile boolean stopped;
+
+    /**
+     * @param bufferSize ring capacity, a power of 2
+     */
+    public EventBus(int bufferSize) {
+        this.ringBuffer = new RingBuffer(bufferSize);
+    }
+
+    /**
+     * Register a handler; must be called before start()
+     */
+    public synchronized void addHandler(String name, EventHandler handler) {
+        if (started) {
+            throw new IllegalStateException("Handlers must be added before start()");
+        }
+        if (handler == null) {
+            throw new IllegalArgumentException("Handler cannot be null");
+        }
+        var processor = new BatchEventProcessor(ringBuffer, handler);
+        ringBuffer.addGatingSequence(processor.getSequence());
+        processors.add(processor);
+        names.add(name);
+    }
+
+    public synchronized void start() {
+        if (started) {
+            throw new IllegalStateException("Event bus already started");
+        }
+        for (int i = 0; i < processors.size(); i++) {
+            Thread thread = new Thread(processors.get(i), "event-bus-" + names.get(i));
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+        started = true;
+    }
+
+    /**
+     * Publish one event. Allocation-free; the claim is a single atomic add
+     * and only waits when the slowest handler is a full ring behind.
+     * Dropped once the bus has been shut down.
+     */
+    public void publish(EventType type, String studentId, String courseCode,
+                        Grade grade, Grade previousGrade, DepartmentType major) {
+        if (stopped) {
+            dropped.increment();
+            return;
+        }
+        long sequence = ringBuffer.next();
+        try {
+            ringBuffer.get(sequence).set(type, studentId, courseCode, grade, previousGrade, major);
+        } finally {
+            ringBuffer.publish(sequence);  // always publish so consumers never stall on a hole
+        }
+    }
+
+    public void publishStudentAdded(String studentId, DepartmentType major) {
+        publish(EventType.STUDENT_ADDED, studentId, null, null, null, major);
+    }
+
+    public void publishEnrolled(String studentId, String courseCode) {
+        publish(EventType.ENROLLED, studentId, courseCode, null, null, null);
+    }
+
+    public void publishDropped(String studentId, String courseCode) {
+        publish(EventType.DROPPED, studentId, courseCode, null, null, null);
+    }
+
+    public void publishGraded(String studentId, String courseCode, Grade grade, Grade previousGrade) {
+        publish(EventType.GRADED, studentId, courseCode, grade, previousGrade, null);
+    }
+
+    /**
+     * Highest sequence claimed by producers so far (-1 before the first publish)
+     */
+    public long getCursor() {
+        return ringBuffer.getCursor();
+    }
+
+    /**
+     * Events published but not yet handled by the slowest handler
+     */
+    public long getBacklog() {
+        long cursor = ringBuffer.getCursor();
+        return cursor - ringBuffer.minimumGatingSequence(cursor);
+    }
+
+    public int getBufferSize() {
+        return ringBuffer.getBufferSize();
+    }
+
+    /**
+     * Events published after shutdown() and therefore never handled
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public boolean isShutdown() {
+        return stopped;
+    }
+
+    /**
+     * Let handlers finish every event published so far, then stop their
+     * threads and release the ring: later publishes are dropped, and one
+     * already waiting for a slot is let through rather than parked forever.
+     */
+    public synchronized void shutdown() {
+        if (!started || stopped) {
+            return;
+        }
+        stopped = true;
+        for (BatchEventProcessor processor : processors) {
+            processor.halt();
+        }
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            for (BatchEventProcessor processor : processors) {
+                ringBuffer.removeGatingSequence(processor.getSequence());
+            }
+            threads.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        shutdown();
+    }
+}
@@ -0,0 +1,16 @@
+package com.university.event;
+
+/**
+ * Functional interface for consumers of the EventBus
+ *
+ * endOfBatch is true for the last event currently available, so a handler
+ * can defer expensive work (flushing a log, publishing a snapshot) to once
+ * per batch instead of once per event.
+ *
+ * OOP Features Demonstrated:
+ * - Functional interfaces
+ */
+@FunctionalInterface
+public interface EventHandler {
+    void onEvent(DomainEvent event, long sequence, boolean endOfBatch) throws Exception;
+}
@@ -0,0 +1,59 @@
+package com.university.event;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+
+/**
+ * Audit log subscriber - one tab-separated line per event
+ *
+ * Lines go into the writer's buffer as they arrive and the writer is only
+ * flushed at the end of each batch, so a burst of events costs one flush.
+ *
+ * OOP Features Demonstrated:
+ * - Implementing a functional interface with a class
+ * - AutoCloseable
+ */
+public class EventLogHandler implements EventHandler, AutoCloseable {
+
+    private final Writer writer;
+    private final StringBuilder line = new StringBuilder(128);
+
+    public EventLogHandler(Writer writer) {
+        if (writer == null) {
+            throw new IllegalArgumentException("Writer cannot be null");
+        }
+        this.writer = writer;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event, long sequence, boolean endOfBatch) throws IOException {
+        line.setLength(0);
+        line.append(sequence).append('\t')
+            .append(Instant.ofEpochMilli(event.getTimestamp())).append('\t')
+            .append(event.getType()).append('\t')
+            .append(event.getStudentId());
+        if (event.getCourseCode() != null) {
+            line.append('\t').append(event.getCourseCode());
+        }
+        if (event.getMajor() != null) {
+            line.append('\t').append(event.getMajor().getCode());
+        }
+        if (event.getGrade() != null) {
+            line.append('\t').append(event.getGrade());
+            if (event.getPreviousGrade() != null) {
+                line.append(" (was ").append(event.getPreviousGrade()).append(')');
+            }
+        }
+        line.append(System.lineSeparator());
+        writer.append(line);
+        if (endOfBatch) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
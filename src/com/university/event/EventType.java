@@ -0,0 +1,14 @@
+package com.university.event;
+
+/**
+ * Enum of domain events carried on the EventBus
+ *
+ * OOP Features Demonstrated:
+ * - Enums
+ */
+public enum EventType {
+    STUDENT_ADDED,
+    ENROLLED,
+    DROPPED,
+    GRADED
+}
@@ -0,0 +1,126 @@
+package com.university.event;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Pre-allocated multi-producer ring of DomainEvent slots
+ *
+ * Producers claim a sequence with a single atomic add (wait-free), fill in
+ * the slot and publish it by stamping the slot's lap number into
+ * availableBuffer. A producer only waits when the ring is full, i.e. when it
+ * would overwrite a slot the slowest consumer has not processed yet.
+ *
+ * Consumers see the claim cursor, which can run ahead of what is published,
+ * so they ask getHighestPublished for the contiguous published range.
+ *
+ * OOP Features Demonstrated:
+ * - Encapsulation
+ * - Arrays (power-of-two ring indexing)
+ * - VarHandle memory-ordering access
+ */
+public final class RingBuffer {
+
+    private static final VarHandle AVAILABLE = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final DomainEvent[] entries;
+    private final int[] availableBuffer;  // lap number of the last publish into each slot
+    private final int bufferSize;
+    private final int mask;
+    private final int indexShift;
+    private final Sequence cursor = new Sequence(-1);  // highest claimed sequence
+    private final Sequence gatingCache = new Sequence(-1);  // last seen minimum consumer sequence
+    private volatile Sequence[] gatingSequences = new Sequence[0];
+
+    public RingBuffer(int bufferSize) {
+        if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("Buffer size must be a positive power of 2: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        this.mask = bufferSize - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+        this.entries = new DomainEvent[bufferSize];
+        for (int i = 0; i < bufferSize; i++) {
+            entries[i] = new DomainEvent();
+        }
+        this.availableBuffer = new int[bufferSize];
+        Arrays.fill(availableBuffer, -1);
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Claim the next sequence; spins/parks only if the ring is full
+     */
+    public long next() {
+        long sequence = cursor.getAndAdd(1) + 1;
+        long wrapPoint = sequence - bufferSize;
+        if (wrapPoint > gatingCache.get()) {
+            long minimum;
+            while (wrapPoint > (minimum = minimumGatingSequence(sequence - 1))) {
+                LockSupport.parkNanos(1);
+            }
+            gatingCache.set(minimum);
+        }
+        return sequence;
+    }
+
+    public DomainEvent get(long sequence) {
+        return entries[(int) sequence & mask];
+    }
+
+    /**
+     * Make a claimed slot visible to consumers
+     */
+    public void publish(long sequence) {
+        AVAILABLE.setRelease(availableBuffer, (int) sequence & mask, (int) (sequence >>> indexShift));
+    }
+
+    public boolean isPublished(long sequence) {
+        return (int) AVAILABLE.getAcquire(availableBuffer, (int) sequence & mask) == (int) (sequence >>> indexShift);
+    }
+
+    /**
+     * Highest sequence in [lowerBound, availableSequence] such that every
+     * sequence up to it is published
+     */
+    public long getHighestPublished(long lowerBound, long availableSequence) {
+        for (long sequence = lowerBound; sequence <= availableSequence; sequence++) {
+            if (!isPublished(sequence)) {
+                return sequence - 1;
+            }
+        }
+        return availableSequence;
+    }
+
+    public long getCursor() {
+        return cursor.get();
+    }
+
+    /**
+     * Register consumer sequences the producers must not overtake
+     */
+    public synchronized void addGatingSequence(Sequence sequence) {
+        Sequence[] updated = Arrays.copyOf(gatingSequences, gatingSequences.length + 1);
+        updated[gatingSequences.length] = sequence;
+        gatingSequences = updated;
+    }
+
+    public synchronized void removeGatingSequence(Sequence sequence) {
+        gatingSequences = Arrays.stream(gatingSequences)
+            .filter(s -> s != sequence)
+            .toArray(Sequence[]::new);
+    }
+
+    long minimumGatingSequence(long defaultValue) {
+        long minimum = defaultValue;
+        for (Sequence sequence : gatingSequences) {
+            minimum = Math.min(minimum, sequence.get());
+        }
+        return minimum;
+    }
+}
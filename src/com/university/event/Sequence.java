@@ -0,0 +1,56 @@
+package com.university.event;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Padded sequence counter shared between producers and consumers
+ *
+ * The value sits between two blocks of unused longs so that two sequences
+ * (e.g. the producer cursor and a consumer's position) never share a cache
+ * line and do not slow each other down through false sharing.
+ *
+ * OOP Features Demonstrated:
+ * - Encapsulation
+ * - VarHandle memory-ordering access
+ */
+public final class Sequence {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(Sequence.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @SuppressWarnings("unused") private long p1, p2, p3, p4, p5, p6, p7;
+    private volatile long value;
+    @SuppressWarnings("unused") private long p9, p10, p11, p12, p13, p14, p15;
+
+    public Sequence(long initialValue) {
+        VALUE.setRelease(this, initialValue);
+    }
+
+    public long get() {
+        return value;
+    }
+
+    /**
+     * Ordered store - cheaper than a volatile write, still visible in order
+     */
+    public void set(long newValue) {
+        VALUE.setRelease(this, newValue);
+    }
+
+    public long getAndAdd(long delta) {
+        return (long) VALUE.getAndAdd(this, delta);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+}
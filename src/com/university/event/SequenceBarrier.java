@@ -0,0 +1,60 @@
+package com.university.event;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Tells a consumer how far it may read
+ *
+ * waitFor spins briefly, then yields, then parks, so an idle consumer costs
+ * little CPU while a busy one picks up new events within microseconds.
+ * Once alerted, waitFor stops waiting and returns whatever is published.
+ *
+ * OOP Features Demonstrated:
+ * - Encapsulation
+ * - Volatile fields for cross-thread signalling
+ */
+public final class SequenceBarrier {
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long PARK_NANOS = 100_000;
+
+    private final RingBuffer ringBuffer;
+    private volatile boolean alerted;
+
+    SequenceBarrier(RingBuffer ringBuffer) {
+        this.ringBuffer = ringBuffer;
+    }
+
+    /**
+     * Wait until sequence is claimed, then return the highest contiguous
+     * published sequence (which may be below sequence if a producer is still
+     * writing, or above it when a batch is ready)
+     */
+    public long waitFor(long sequence) {
+        int counter = 0;
+        long available;
+        while ((available = ringBuffer.getCursor()) < sequence && !alerted) {
+            if (counter < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else if (counter < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+            counter++;
+        }
+        if (available < sequence) {
+            return sequence - 1;
+        }
+        return ringBuffer.getHighestPublished(sequence, available);
+    }
+
+    public boolean isAlerted() {
+        return alerted;
+    }
+
+    void alert() {
+        alerted = true;
+    }
+}
@@ -0,0 +1,25 @@
+package com.university.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for bulk operations (gradebook import, batch transcript
+ * rendering, dataset generation)
+ */
+@Name("com.university.BulkOperation")
+@Label("Bulk Operation")
+@Category({"University", "Bulk"})
+public class BulkOperationEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Target")
+    public String target;
+
+    @Label("Items")
+    public long items;
+}
@@ -0,0 +1,31 @@
+package com.university.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one EnrollmentService.enrollStudent attempt.
+ * Fields are only filled in when shouldCommit() is true, so a disabled
+ * event costs a begin/end timestamp at most.
+ */
+@Name("com.university.Enrollment")
+@Label("Enrollment Attempt")
+@Category({"University", "Enrollment"})
+@Description("A student's attempt to enroll in a course")
+@StackTrace(false)
+public class EnrollmentEvent extends Event {
+
+    @Label("Student ID")
+    public String studentId;
+
+    @Label("Course Code")
+    public String courseCode;
+
+    @Label("Outcome")
+    @Description("ENROLLED, or the reason the attempt was rejected")
+    public String outcome;
+}
@@ -0,0 +1,162 @@
+package com.university.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and rejection counters for EnrollmentService.
+ * Recording methods take nanoseconds and never allocate.
+ *
+ * OOP Features Demonstrated:
+ * - Interface implementation (MXBean)
+ * - Enum ordinals as array indexes
+ */
+public final class EnrollmentMetrics implements EnrollmentMetricsMXBean {
+
+    private static final RejectionReason[] REASONS = RejectionReason.values();
+
+    private final Histogram enroll = new Histogram();
+    private final Histogram drop = new Histogram();
+    private final Histogram assignGrade = new Histogram();
+    private final Histogram mailboxBatch = new Histogram();  // requests per course-actor drain
+    private final LongAdder[] rejections = new LongAdder[REASONS.length];
+
+    public EnrollmentMetrics() {
+        for (int i = 0; i < rejections.length; i++) {
+            rejections[i] = new LongAdder();
+        }
+    }
+
+    // ---- recording (hot path) ----
+
+    public void recordEnroll(long nanos) {
+        enroll.record(nanos);
+    }
+
+    public void recordDrop(long nanos) {
+        drop.record(nanos);
+    }
+
+    public void recordAssignGrade(long nanos) {
+        assignGrade.record(nanos);
+    }
+
+    public void recordMailboxBatch(int requests) {
+        mailboxBatch.record(requests);
+    }
+
+    public void recordRejection(RejectionReason reason) {
+        rejections[reason.ordinal()].increment();
+    }
+
+    public long getRejections(RejectionReason reason) {
+        return rejections[reason.ordinal()].sum();
+    }
+
+    // ---- MXBean attributes ----
+
+    @Override
+    public long getEnrollCount() {
+        return enroll.getCount();
+    }
+
+    @Override
+    public double getEnrollMeanMicros() {
+        return enroll.getMean() / 1_000.0;
+    }
+
+    @Override
+    public long getEnrollP99Micros() {
+        return enroll.getPercentile(99) / 1_000;
+    }
+
+    @Override
+    public long getEnrollMaxMicros() {
+        return enroll.getMax() / 1_000;
+    }
+
+    @Override
+    public long getDropCount() {
+        return drop.getCount();
+    }
+
+    @Override
+    public double getDropMeanMicros() {
+        return drop.getMean() / 1_000.0;
+    }
+
+    @Override
+    public long getDropP99Micros() {
+        return drop.getPercentile(99) / 1_000;
+    }
+
+    @Override
+    public long getDropMaxMicros() {
+        return drop.getMax() / 1_000;
+    }
+
+    @Override
+    public long getAssignGradeCount() {
+        return assignGrade.getCount();
+    }
+
+    @Override
+    public double getAssignGradeMeanMicros() {
+        return assignGrade.getMean() / 1_000.0;
+    }
+
+    @Override
+    public long getAssignGradeP99Micros() {
+        return assignGrade.getPercentile(99) / 1_000;
+    }
+
+    @Override
+    public long getAssignGradeMaxMicros() {
+        return assignGrade.getMax() / 1_000;
+    }
+
+    @Override
+    public long getMailboxBatchCount() {
+        return mailboxBatch.getCount();
+    }
+
+    @Override
+    public double getMailboxBatchMeanSize() {
+        return mailboxBatch.getMean();
+    }
+
+    @Override
+    public long getMailboxBatchMaxSize() {
+        return mailboxBatch.getMax();
+    }
+
+    @Override
+    public long getRejectionCount() {
+        long total = 0;
+        for (LongAdder counter : rejections) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public Map<String, Long> getRejectionsByReason() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (RejectionReason reason : REASONS) {
+            result.put(reason.name(), rejections[reason.ordinal()].sum());
+        }
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        enroll.reset();
+        drop.reset();
+        assignGrade.reset();
+        mailboxBatch.reset();
+        for (LongAdder counter : rejections) {
+            counter.reset();
+        }
+    }
+}
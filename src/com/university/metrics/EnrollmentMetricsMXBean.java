@@ -0,0 +1,33 @@
+package com.university.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface for EnrollmentService metrics.
+ * Latencies are reported in microseconds.
+ */
+public interface EnrollmentMetricsMXBean {
+    long getEnrollCount();
+    double getEnrollMeanMicros();
+    long getEnrollP99Micros();
+    long getEnrollMaxMicros();
+
+    long getDropCount();
+    double getDropMeanMicros();
+    long getDropP99Micros();
+    long getDropMaxMicros();
+
+    long getAssignGradeCount();
+    double getAssignGradeMeanMicros();
+    long getAssignGradeP99Micros();
+    long getAssignGradeMaxMicros();
+
+    long getMailboxBatchCount();
+    double getMailboxBatchMeanSize();
+    long getMailboxBatchMaxSize();
+
+    long getRejectionCount();
+    Map<String, Long> getRejectionsByReason();
+
+    void reset();
+}
@@ -0,0 +1,34 @@
+package com.university.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for EnrollmentService.assignGrade
+ */
+@Name("com.university.GradeAssigned")
+@Label("Grade Assignment")
+@Category({"University", "Grading"})
+@Description("A grade recorded (or replaced) on an enrollment")
+@StackTrace(false)
+public class GradeAssignedEvent extends Event {
+
+    @Label("Student ID")
+    public String studentId;
+
+    @Label("Course Code")
+    public String courseCode;
+
+    @Label("Grade")
+    public String grade;
+
+    @Label("Previous Grade")
+    public String previousGrade;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,49 @@
+package com.university.metrics;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Process-wide metrics registry.
+ *
+ * The services record into these shared instances; registerMBeans()
+ * exposes them over JMX (jconsole / VisualVM) under the
+ * "com.university" domain.
+ *
+ * OOP Features Demonstrated:
+ * - Static final singletons
+ * - Utility class with private constructor
+ */
+public final class Metrics {
+
+    public static final EnrollmentMetrics ENROLLMENT = new EnrollmentMetrics();
+    public static final StudentQueryMetrics STUDENT_QUERIES = new StudentQueryMetrics();
+    public static final TranscriptMetrics TRANSCRIPTS = new TranscriptMetrics();
+
+    private static boolean registered;
+
+    private Metrics() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Register all metrics as MBeans on the platform MBean server.
+     * Safe to call more than once.
+     */
+    public static synchronized void registerMBeans() {
+        if (registered) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(ENROLLMENT, new ObjectName("com.university:type=EnrollmentService"));
+            server.registerMBean(STUDENT_QUERIES, new ObjectName("com.university:type=StudentService"));
+            server.registerMBean(TRANSCRIPTS, new ObjectName("com.university:type=Transcripts"));
+            registered = true;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register metrics MBeans", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.university.metrics;
+
+/**
+ * Reasons an enrollment-service operation can be rejected
+ * Used to index rejection counters by ordinal
+ */
+public enum RejectionReason {
+    INVALID_INPUT,
+    INACTIVE_STUDENT,
+    COURSE_FULL,
+    ALREADY_ENROLLED,
+    ENROLLMENT_NOT_FOUND,
+    ALREADY_GRADED,
+    INVALID_GRADE,
+    FAILED
+}
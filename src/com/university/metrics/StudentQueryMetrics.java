@@ -0,0 +1,59 @@
+package com.university.metrics;
+
+/**
+ * Query latency and scan-size histograms for StudentService
+ */
+public final class StudentQueryMetrics implements StudentQueryMetricsMXBean {
+
+    private final Histogram latency = new Histogram();
+    private final Histogram scanSize = new Histogram();
+
+    /**
+     * Record one query: its duration and how many students it examined
+     */
+    public void recordQuery(long nanos, int scanned) {
+        latency.record(nanos);
+        scanSize.record(scanned);
+    }
+
+    @Override
+    public long getQueryCount() {
+        return latency.getCount();
+    }
+
+    @Override
+    public double getQueryMeanMicros() {
+        return latency.getMean() / 1_000.0;
+    }
+
+    @Override
+    public long getQueryP99Micros() {
+        return latency.getPercentile(99) / 1_000;
+    }
+
+    @Override
+    public long getQueryMaxMicros() {
+        return latency.getMax() / 1_000;
+    }
+
+    @Override
+    public double getMeanScanSize() {
+        return scanSize.getMean();
+    }
+
+    @Override
+    public long getMaxScanSize() {
+        return scanSize.getMax();
+    }
+
+    @Override
+    public long getStudentsScanned() {
+        return scanSize.getSum();
+    }
+
+    @Override
+    public void reset() {
+        latency.reset();
+        scanSize.reset();
+    }
+}
@@ -0,0 +1,18 @@
+package com.university.metrics;
+
+/**
+ * Management interface for StudentService query metrics.
+ * Latencies are reported in microseconds, scan sizes in students examined.
+ */
+public interface StudentQueryMetricsMXBean {
+    long getQueryCount();
+    double getQueryMeanMicros();
+    long getQueryP99Micros();
+    long getQueryMaxMicros();
+
+    double getMeanScanSize();
+    long getMaxScanSize();
+    long getStudentsScanned();
+
+    void reset();
+}
@@ -0,0 +1,48 @@
+package com.university.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Render latency and output volume for transcript generation
+ */
+public final class TranscriptMetrics implements TranscriptMetricsMXBean {
+
+    private final Histogram latency = new Histogram();
+    private final LongAdder characters = new LongAdder();
+
+    public void recordRender(long nanos, long charactersWritten) {
+        latency.record(nanos);
+        characters.add(charactersWritten);
+    }
+
+    @Override
+    public long getRenderCount() {
+        return latency.getCount();
+    }
+
+    @Override
+    public double getRenderMeanMicros() {
+        return latency.getMean() / 1_000.0;
+    }
+
+    @Override
+    public long getRenderP99Micros() {
+        return latency.getPercentile(99) / 1_000;
+    }
+
+    @Override
+    public long getRenderMaxMicros() {
+        return latency.getMax() / 1_000;
+    }
+
+    @Override
+    public long getCharactersRendered() {
+        return characters.sum();
+    }
+
+    @Override
+    public void reset() {
+        latency.reset();
+        characters.reset();
+    }
+}
@@ -0,0 +1,15 @@
+package com.university.metrics;
+
+/**
+ * Management interface for transcript generation metrics.
+ * Latencies are reported in microseconds.
+ */
+public interface TranscriptMetricsMXBean {
+    long getRenderCount();
+    double getRenderMeanMicros();
+    long getRenderP99Micros();
+    long getRenderMaxMicros();
+    long getCharactersRendered();
+
+    void reset();
+}
@@ -0,0 +1,23 @@
+package com.university.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for rendering one transcript
+ */
+@Name("com.university.TranscriptRender")
+@Label("Transcript Render")
+@Category({"University", "Transcripts"})
+@StackTrace(false)
+public class TranscriptRenderEvent extends Event {
+
+    @Label("Student ID")
+    public String studentId;
+
+    @Label("Characters")
+    public long characters;
+}
@@ -0,0 +1,62 @@
+package com.university.model;
+
+/**
+ * Enum of academic standings, ordered from highest to lowest
+ *
+ * Each constant carries the GPA floor it starts at and the label shown in
+ * reports; Gradeable.getAcademicStanding() resolves through fromGPA so the
+ * labels and the report engine always agree.
+ *
+ * OOP Features Demonstrated:
+ * - Enums with fields and methods
+ * - Static factory method on an enum
+ */
+public enum AcademicStanding {
+    DEANS_LIST("DEAN'S LIST", 3.8),
+    HONOR_ROLL("HONOR ROLL", 3.5),
+    GOOD_STANDING("GOOD STANDING", 3.0),
+    SATISFACTORY("SATISFACTORY", 2.0),
+    ACADEMIC_PROBATION("ACADEMIC PROBATION", 0.0);
+
+    private static final AcademicStanding[] VALUES = values();
+
+    private final String label;
+    private final double minimumGPA;
+
+    AcademicStanding(String label, double minimumGPA) {
+        this.label = label;
+        this.minimumGPA = minimumGPA;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public double getMinimumGPA() {
+        return minimumGPA;
+    }
+
+    /**
+     * Standings at or above the honor roll threshold (GPA >= 3.5)
+     */
+    public boolean isHonorRoll() {
+        return minimumGPA >= 3.5;
+    }
+
+    /**
+     * Resolve the standing for a GPA - first constant whose floor is met
+     */
+    public static AcademicStanding fromGPA(double gpa) {
+        for (AcademicStanding standing : VALUES) {
+            if (gpa >= standing.minimumGPA) {
+                return standing;
+            }
+        }
+        return ACADEMIC_PROBATION;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
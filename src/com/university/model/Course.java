@@ -1,7 +1,12 @@
 package com.university.model;
 
+import com.university.util.StringPool;
+
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Course class demonstrating:
@@ -26,11 +31,12 @@ public class Course {
     private DepartmentType department;
     private int credits;
     private int capacity;
-    private int enrolled;
-    private Instructor instructor;
+    private volatile int enrolled;  // written under seatLock, read without it
+    private volatile Instructor instructor;  // written under seatLock
     private CourseSchedule schedule;
     private String[] prerequisites;  // Array of prerequisite course codes
-    private List<Student> enrolledStudents;
+    private Set<Student> enrolledStudents;  // insertion-ordered roster, O(1) contains and remove
+    private final ReentrantLock seatLock = new ReentrantLock();  // guards seats and roster
 
     /**
      * Constructor demonstrating this. and initialization
@@ -45,13 +51,13 @@ public class Course {
     public Course(String courseCode, String courseName, DepartmentType department, 
                   int credits, int capacity) {
         this.courseCode = courseCode;
-        this.courseName = courseName;
+        this.courseName = StringPool.SHARED.intern(courseName);  // titles repeat across sections
         this.department = department;
         this.credits = credits;
         this.capacity = capacity;
         this.enrolled = 0;
         this.prerequisites = new String[0];
-        this.enrolledStudents = new ArrayList<>();
+        this.enrolledStudents = new LinkedHashSet<>();
     }
 
     /**
@@ -90,17 +96,23 @@ public class Course {
      * Method overloading - enroll student
      */
     public boolean enrollStudent(Student student) throws Exception {
-        if (enrolled >= capacity) {
-            throw new Exception("Course is full");
-        }
-        
-        if (enrolledStudents.contains(student)) {
-            return false;  // Already enrolled
+        seatLock.lock();
+        try {
+            if (enrolled >= capacity) {
+                throw new Exception("Course is full");
+            }
+
+            if (!enrolledStudents.add(student)) {
+                return false;  // Already enrolled
+            }
+            enrolled++;
+            if (instructor != null) {
+                instructor.adjustHeadcount(1);
+            }
+            return true;
+        } finally {
+            seatLock.unlock();
         }
-        
-        enrolledStudents.add(student);
-        enrolled++;
-        return true;
     }
 
     /**
@@ -124,11 +136,19 @@ public class Course {
      * Remove student from course
      */
     public boolean removeStudent(Student student) {
-        if (enrolledStudents.remove(student)) {
-            enrolled--;
-            return true;
+        seatLock.lock();
+        try {
+            if (enrolledStudents.remove(student)) {
+                enrolled--;
+                if (instructor != null) {
+                    instructor.adjustHeadcount(-1);
+                }
+                return true;
+            }
+            return false;
+        } finally {
+            seatLock.unlock();
         }
-        return false;
     }
 
     /**
@@ -149,7 +169,23 @@ public class Course {
      * Get enrolled students with defensive copying
      */
     public List<Student> getEnrolledStudents() {
-        return new ArrayList<>(enrolledStudents);  // Defensive copy
+        seatLock.lock();
+        try {
+            return new ArrayList<>(enrolledStudents);  // Defensive copy
+        } finally {
+            seatLock.unlock();
+        }
+    }
+
+    /**
+     * Lock guarding this course's seats and roster. Callers that must check
+     * and take a seat as one step (EnrollmentService, CourseActor) hold it
+     * around both; it is reentrant, so the calls above still work inside.
+     * A ReentrantLock rather than the monitor: a virtual thread that waits
+     * for it, or parks while holding it, does not pin its carrier thread.
+     */
+    public ReentrantLock getSeatLock() {
+        return seatLock;
     }
 
     /**
@@ -199,8 +235,27 @@ public class Course {
         return instructor;
     }
 
+    /**
+     * Assign the instructor, keeping the instructor -> courses side of the index in step.
+     * Holds the seat lock (course first, then instructor, as enroll and remove do),
+     * so the headcount moved between instructors cannot change mid-swap.
+     */
     public void setInstructor(Instructor instructor) {
-        this.instructor = instructor;
+        seatLock.lock();
+        try {
+            if (this.instructor == instructor) {
+                return;
+            }
+            if (this.instructor != null) {
+                this.instructor.unassign(this);
+            }
+            this.instructor = instructor;
+            if (instructor != null) {
+                instructor.assign(this);
+            }
+        } finally {
+            seatLock.unlock();
+        }
     }
 
     public CourseSchedule getSchedule() {
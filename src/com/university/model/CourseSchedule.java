@@ -1,5 +1,7 @@
 package com.university.model;
 
+import com.university.util.StringPool;
+
 import java.time.LocalTime;
 
 /**
@@ -27,6 +29,7 @@ public record CourseSchedule(
     /**
      * Compact constructor for validation
      * Only available in records
+     * Days and rooms repeat across courses, so both are interned
      */
     public CourseSchedule {
         if (dayOfWeek == null || dayOfWeek.isEmpty()) {
@@ -41,6 +44,8 @@ public record CourseSchedule(
         if (room == null || room.isEmpty()) {
             throw new IllegalArgumentException("Room cannot be null or empty");
         }
+        dayOfWeek = StringPool.SHARED.intern(dayOfWeek);
+        room = StringPool.SHARED.intern(room);
     }
     
     /**
@@ -0,0 +1,61 @@
+package com.university.model;
+
+/**
+ * Record holding a student's running credit totals
+ *
+ * - attemptedCredits: credits of every current enrollment (graded or in progress)
+ * - earnedCredits:    credits of enrollments graded with a passing grade
+ * - gradedCredits:    credits of all graded enrollments (passing or failing)
+ * - qualityPoints:    sum of grade point x credits over graded enrollments
+ *
+ * OOP Features Demonstrated:
+ * - Records
+ * - Static constants in records
+ * - Compact constructors
+ */
+public record CreditTotals(
+    int attemptedCredits,
+    int earnedCredits,
+    int gradedCredits,
+    double qualityPoints
+) {
+
+    public static final CreditTotals EMPTY = new CreditTotals(0, 0, 0, 0.0);
+
+    /**
+     * Compact constructor with validation
+     */
+    public CreditTotals {
+        if (attemptedCredits < 0 || earnedCredits < 0 || gradedCredits < 0 || qualityPoints < 0) {
+            throw new IllegalArgumentException("Credit totals cannot be negative");
+        }
+    }
+
+    /**
+     * Component-wise sum, e.g. to combine totals kept in separate shards
+     */
+    public CreditTotals plus(CreditTotals other) {
+        return new CreditTotals(
+            attemptedCredits + other.attemptedCredits,
+            earnedCredits + other.earnedCredits,
+            gradedCredits + other.gradedCredits,
+            qualityPoints + other.qualityPoints);
+    }
+
+    /**
+     * Credit-weighted GPA: quality points over graded credits, to two decimals
+     */
+    public double weightedGPA() {
+        if (gradedCredits == 0) {
+            return 0.0;
+        }
+        return Math.round(qualityPoints * 100.0 / gradedCredits) / 100.0;
+    }
+
+    /**
+     * Degree check - has the student earned at least the required credits
+     */
+    public boolean meetsCreditRequirement(int requiredCredits) {
+        return earnedCredits >= requiredCredits;
+    }
+}
@@ -0,0 +1,54 @@
+package com.university.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Record holding one DepartmentSummary per DepartmentType
+ *
+ * Every department is present, including ones without students, so report
+ * code can iterate DepartmentType.values() without null checks.
+ *
+ * OOP Features Demonstrated:
+ * - Records
+ * - EnumMap
+ * - Streams over map values
+ */
+public record DepartmentReport(Map<DepartmentType, DepartmentSummary> departments) {
+
+    public DepartmentReport {
+        var copy = new EnumMap<DepartmentType, DepartmentSummary>(DepartmentType.class);
+        for (DepartmentType dept : DepartmentType.values()) {
+            DepartmentSummary summary = departments == null ? null : departments.get(dept);
+            copy.put(dept, summary != null ? summary : new DepartmentSummary(dept, 0, 0, 0.0, 0.0, 0.0, null));
+        }
+        departments = Collections.unmodifiableMap(copy);
+    }
+
+    public DepartmentSummary get(DepartmentType department) {
+        return departments.get(department);
+    }
+
+    public int totalStudents() {
+        return departments.values().stream().mapToInt(DepartmentSummary::studentCount).sum();
+    }
+
+    public int totalHonorRoll() {
+        return departments.values().stream().mapToInt(DepartmentSummary::honorRollCount).sum();
+    }
+
+    /**
+     * University-wide average GPA, weighted by department size
+     */
+    public double averageGPA() {
+        int total = totalStudents();
+        if (total == 0) {
+            return 0.0;
+        }
+        double sum = departments.values().stream()
+            .mapToDouble(s -> s.averageGPA() * s.studentCount())
+            .sum();
+        return sum / total;
+    }
+}
@@ -0,0 +1,57 @@
+package com.university.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Record holding the aggregates of one department's students
+ *
+ * minGPA/maxGPA/averageGPA are 0.0 for a department with no students.
+ *
+ * OOP Features Demonstrated:
+ * - Records
+ * - Compact constructors with defensive copying
+ * - EnumMap
+ */
+public record DepartmentSummary(
+    DepartmentType department,
+    int studentCount,
+    int activeCount,
+    double averageGPA,
+    double minGPA,
+    double maxGPA,
+    Map<AcademicStanding, Integer> standings
+) {
+
+    /**
+     * Compact constructor - copies the distribution into an unmodifiable EnumMap
+     */
+    public DepartmentSummary {
+        if (department == null) {
+            throw new IllegalArgumentException("Department cannot be null");
+        }
+        var copy = new EnumMap<AcademicStanding, Integer>(AcademicStanding.class);
+        for (AcademicStanding standing : AcademicStanding.values()) {
+            copy.put(standing, standings == null ? 0 : standings.getOrDefault(standing, 0));
+        }
+        standings = Collections.unmodifiableMap(copy);
+    }
+
+    public int count(AcademicStanding standing) {
+        return standings.get(standing);
+    }
+
+    /**
+     * Students at or above the honor roll threshold (GPA >= 3.5)
+     */
+    public int honorRollCount() {
+        int total = 0;
+        for (var entry : standings.entrySet()) {
+            if (entry.getKey().isHonorRoll()) {
+                total += entry.getValue();
+            }
+        }
+        return total;
+    }
+}
@@ -32,6 +32,18 @@ public enum DepartmentType {
         return code;
     }
 
+    /**
+     * Look up a department by enum name or short code, ignoring case
+     */
+    public static DepartmentType parse(String text) {
+        for (DepartmentType dept : values()) {
+            if (dept.name().equalsIgnoreCase(text) || dept.code.equalsIgnoreCase(text)) {
+                return dept;
+            }
+        }
+        throw new IllegalArgumentException("Unknown department: " + text);
+    }
+
     // Method demonstrating enum behavior
     public String getDescription() {
         return String.format("%s (%s)", fullName, code);
@@ -0,0 +1,72 @@
+package com.university.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Record holding the teaching load of one department's instructors
+ *
+ * Built from each instructor's running totals (Instructor.getCreditHours,
+ * getEnrolledHeadcount, getCourseCount), so a report is one O(1) read per
+ * instructor with no walk over the course catalog.
+ *
+ * OOP Features Demonstrated:
+ * - Records
+ * - Static factory method returning an EnumMap
+ */
+public record DepartmentWorkload(
+    DepartmentType department,
+    int instructorCount,
+    int courseCount,
+    int creditHours,
+    int enrolledHeadcount,
+    int maxCreditHours
+) {
+
+    public DepartmentWorkload {
+        if (department == null) {
+            throw new IllegalArgumentException("Department cannot be null");
+        }
+    }
+
+    /**
+     * Workload of every department (zero rows included), in declaration order
+     */
+    public static Map<DepartmentType, DepartmentWorkload> of(Collection<Instructor> instructors) {
+        int size = DepartmentType.values().length;
+        int[] staff = new int[size];
+        int[] courses = new int[size];
+        int[] credits = new int[size];
+        int[] headcount = new int[size];
+        int[] maxCredits = new int[size];
+        for (Instructor instructor : instructors) {
+            if (instructor.getDepartment() == null) {
+                continue;
+            }
+            int d = instructor.getDepartment().ordinal();
+            int load = instructor.getCreditHours();
+            staff[d]++;
+            courses[d] += instructor.getCourseCount();
+            credits[d] += load;
+            headcount[d] += instructor.getEnrolledHeadcount();
+            maxCredits[d] = Math.max(maxCredits[d], load);
+        }
+
+        var workloads = new EnumMap<DepartmentType, DepartmentWorkload>(DepartmentType.class);
+        for (DepartmentType dept : DepartmentType.values()) {
+            int d = dept.ordinal();
+            workloads.put(dept, new DepartmentWorkload(dept, staff[d], courses[d], credits[d],
+                headcount[d], maxCredits[d]));
+        }
+        return Collections.unmodifiableMap(workloads);
+    }
+
+    /**
+     * Mean credit hours per instructor, 0.0 for a department with no instructors
+     */
+    public double averageCreditHours() {
+        return instructorCount == 0 ? 0.0 : (double) creditHours / instructorCount;
+    }
+}
@@ -56,7 +56,7 @@ public interface Enrollable {
      * Can be called without an instance
      */
     static boolean isValidEnrollmentId(String id) {
-        return id != null && id.matches("^[A-Z0-9]{5,10}$");
+        return id != null && id.matches("^[A-Z0-9]{5,15}$");
     }
     
     /**
@@ -26,6 +26,18 @@ public enum Grade {
     private final int minPercentage;
     private final int maxPercentage;
 
+    // Lookup table: index = percentage (0-100), value = grade
+    // Built once so fromPercentage() neither searches nor clones values()
+    private static final Grade[] BY_PERCENTAGE = new Grade[101];
+
+    static {
+        for (Grade grade : values()) {
+            for (int p = grade.minPercentage; p <= grade.maxPercentage; p++) {
+                BY_PERCENTAGE[p] = grade;
+            }
+        }
+    }
+
     Grade(double gradePoint, int minPercentage, int maxPercentage) {
         this.gradePoint = gradePoint;
         this.minPercentage = minPercentage;
@@ -49,12 +61,10 @@ public enum Grade {
      * Demonstrates static methods in enums
      */
     public static Grade fromPercentage(int percentage) {
-        for (Grade grade : Grade.values()) {
-            if (percentage >= grade.minPercentage && percentage <= grade.maxPercentage) {
-                return grade;
-            }
+        if (percentage < 0 || percentage >= BY_PERCENTAGE.length) {
+            throw new IllegalArgumentException("Invalid percentage: " + percentage);
         }
-        throw new IllegalArgumentException("Invalid percentage: " + percentage);
+        return BY_PERCENTAGE[percentage];
     }
 
     public boolean isPassing() {
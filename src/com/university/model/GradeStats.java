@@ -0,0 +1,133 @@
+package com.university.model;
+
+import java.util.List;
+
+/**
+ * Primitive grade summary demonstrating:
+ * - Running aggregates instead of re-scanning a list
+ * - An int[] histogram indexed by enum ordinal
+ * - Exact integer arithmetic (grade points kept in tenths)
+ *
+ * Holds the count, grade-point sum, per-Grade histogram and passing/failing
+ * counts of a set of grades. An implementer such as Student treats each
+ * instance as an immutable snapshot: a change copies the current one,
+ * updates the copy and publishes it, so getGradeStats() can return the
+ * snapshot itself. The mutators are package-private and only used on an
+ * instance that has not been shared yet, so callers see a read-only object.
+ *
+ * OOP Features Demonstrated:
+ * - Encapsulation (package-private mutators, public read-only API)
+ * - Static factory method
+ * - Enum ordinals as array indexes
+ */
+public final class GradeStats {
+
+    private static final Grade[] GRADES = Grade.values();
+    private static final int[] POINT_TENTHS = new int[GRADES.length];  // 4.0 -> 40, 3.7 -> 37
+
+    static {
+        for (Grade grade : GRADES) {
+            POINT_TENTHS[grade.ordinal()] = (int) Math.round(grade.getGradePoint() * 10);
+        }
+    }
+
+    /** Summary of no grades; never mutated, so it can be shared */
+    static final GradeStats EMPTY = new GradeStats();
+
+    private final int[] histogram = new int[GRADES.length];
+    private int count;
+    private long pointTenths;
+
+    GradeStats() {
+    }
+
+    /**
+     * Summarise a list of grades (nulls are skipped)
+     */
+    public static GradeStats of(List<Grade> grades) {
+        var stats = new GradeStats();  // LVTI
+        if (grades != null) {
+            for (Grade grade : grades) {
+                if (grade != null) {
+                    stats.add(grade);
+                }
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Independent copy of the current totals, to update before publishing
+     */
+    GradeStats copy() {
+        var copy = new GradeStats();
+        System.arraycopy(histogram, 0, copy.histogram, 0, histogram.length);
+        copy.count = count;
+        copy.pointTenths = pointTenths;
+        return copy;
+    }
+
+    void add(Grade grade) {
+        histogram[grade.ordinal()]++;
+        count++;
+        pointTenths += POINT_TENTHS[grade.ordinal()];
+    }
+
+    void remove(Grade grade) {
+        histogram[grade.ordinal()]--;
+        count--;
+        pointTenths -= POINT_TENTHS[grade.ordinal()];
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Number of grades equal to the given grade
+     */
+    public int getCount(Grade grade) {
+        return histogram[grade.ordinal()];
+    }
+
+    /**
+     * Histogram indexed by Grade ordinal (a copy)
+     */
+    public int[] getHistogram() {
+        return histogram.clone();
+    }
+
+    public double getTotalGradePoints() {
+        return pointTenths / 10.0;
+    }
+
+    public int getPassingCount() {
+        return count - getFailingCount();
+    }
+
+    public int getFailingCount() {
+        return histogram[Grade.F.ordinal()];
+    }
+
+    /**
+     * Mean grade point rounded half-up to two decimals, or 0.0 with no grades
+     */
+    public double getGPA() {
+        if (count == 0) {
+            return 0.0;
+        }
+        // hundredths = round(pointTenths * 10 / count), done in integers so ties round exactly
+        long hundredths = (pointTenths * 20 + count) / (2L * count);
+        return hundredths / 100.0;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GradeStats{count=%d, points=%.1f, passing=%d, failing=%d}",
+            count, getTotalGradePoints(), getPassingCount(), getFailingCount());
+    }
+}
@@ -19,13 +19,20 @@ public interface Gradeable {
     double getGPA();
     List<Grade> getGrades();
     
+    /**
+     * Default method summarising the grades.
+     * Implementers that track their grades should override this and return
+     * their current published GradeStats snapshot, so nothing is copied or streamed.
+     */
+    default GradeStats getGradeStats() {
+        return GradeStats.of(getGrades());
+    }
+    
     /**
      * Default method calculating total grade points
      */
     default double getTotalGradePoints() {
-        return getGrades().stream()
-            .mapToDouble(Grade::getGradePoint)
-            .sum();
+        return getGradeStats().getTotalGradePoints();
     }
     
     /**
@@ -36,6 +43,13 @@ public interface Gradeable {
         return determineStanding(gpa);
     }
     
+    /**
+     * Default method returning the standing as an enum constant
+     */
+    default AcademicStanding getStanding() {
+        return AcademicStanding.fromGPA(getGPA());
+    }
+    
     /**
      * Default method checking if student is on honor roll
      */
@@ -47,15 +61,10 @@ public interface Gradeable {
      * Static utility method to calculate GPA from grades
      */
     static double calculateGPA(List<Grade> grades) {
-        if (grades == null || grades.isEmpty()) {
+        if (isNullOrEmpty(grades)) {
             return 0.0;
         }
-        
-        double totalPoints = grades.stream()
-            .mapToDouble(Grade::getGradePoint)
-            .sum();
-        
-        return roundToTwoDecimals(totalPoints / grades.size());
+        return GradeStats.of(grades).getGPA();  // one pass, no boxing
     }
     
     /**
@@ -70,18 +79,14 @@ public interface Gradeable {
      * Cannot be accessed outside this interface
      */
     private String determineStanding(double gpa) {
-        if (gpa >= 3.8) return "DEAN'S LIST";
-        if (gpa >= 3.5) return "HONOR ROLL";
-        if (gpa >= 3.0) return "GOOD STANDING";
-        if (gpa >= 2.0) return "SATISFACTORY";
-        return "ACADEMIC PROBATION";
+        return AcademicStanding.fromGPA(gpa).getLabel();
     }
     
     /**
      * Private static method (Java 9+)
      * Helper method for static methods
      */
-    private static double roundToTwoDecimals(double value) {
-        return Math.round(value * 100.0) / 100.0;
+    private static boolean isNullOrEmpty(List<Grade> grades) {
+        return grades == null || grades.isEmpty();
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,13 @@
 package com.university.model;
 
+import com.university.util.IdAllocator;
+import com.university.util.StringPool;
+
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Instructor class demonstrating:
@@ -11,6 +16,10 @@ import java.util.List;
  * - super() and super. usage
  * - Method overriding
  * - Arrays
+ *
+ * Each instructor is one side of the instructor <-> course index kept by
+ * Course.setInstructor: the assigned courses plus running credit-hour and
+ * headcount totals, so load queries are O(1) instead of a catalog scan.
  * 
  * OOP Features Demonstrated:
  * - Inheritance
@@ -23,9 +32,12 @@ public final class Instructor extends Person {
     private String instructorId;
     private DepartmentType department;
     private String[] officeHours;  // Array demonstration
-    private List<String> coursesTaught;
+    private Set<String> coursesTaught;  // added by addCourse only; insertion-ordered, O(1) contains
+    private final Set<Course> assignedCourses = new LinkedHashSet<>();  // maintained by Course.setInstructor
+    private int creditHours;        // sum of assigned course credits
+    private int enrolledHeadcount;  // sum of assigned course enrollments
     private double salary;
-    private static int instructorCounter = 0;
+    private static volatile IdAllocator idAllocator = new IdAllocator("INS", IdAllocator.BlockSource.inMemory());
 
     /**
      * Constructor using super()
@@ -37,7 +49,7 @@ public final class Instructor extends Person {
         this.department = department;
         this.salary = salary;
         this.officeHours = new String[0];  // Initialize empty array
-        this.coursesTaught = new ArrayList<>();
+        this.coursesTaught = new LinkedHashSet<>();
     }
 
     /**
@@ -51,7 +63,26 @@ public final class Instructor extends Person {
         this.department = department;
         this.salary = salary;
         this.officeHours = new String[0];
-        this.coursesTaught = new ArrayList<>();
+        this.coursesTaught = new LinkedHashSet<>();
+    }
+
+    /**
+     * Full constructor for an instructor whose ID was already issued
+     * elsewhere, e.g. a generated dataset. Does not draw an ID from the
+     * allocator.
+     */
+    public Instructor(String instructorId, String firstName, String lastName, String email,
+                      String phone, LocalDate dateOfBirth,
+                      DepartmentType department, double salary) {
+        super(firstName, lastName, email, phone, dateOfBirth);
+        if (instructorId == null || instructorId.isBlank()) {
+            throw new IllegalArgumentException("Instructor ID is required");
+        }
+        this.instructorId = instructorId;
+        this.department = department;
+        this.salary = salary;
+        this.officeHours = new String[0];
+        this.coursesTaught = new LinkedHashSet<>();
     }
 
     /**
@@ -72,9 +103,11 @@ public final class Instructor extends Person {
     /**
      * Set office hours using array
      * Demonstrates working with arrays
+     * Copies the array, then interns each slot (office hours repeat across staff)
      */
     public void setOfficeHours(String... hours) {  // Varargs converted to array
-        this.officeHours = hours;
+        // A null array clears the hours, as the constructors start out
+        this.officeHours = hours != null ? StringPool.SHARED.internAll(hours.clone()) : new String[0];
     }
 
     /**
@@ -87,23 +120,91 @@ public final class Instructor extends Person {
     }
 
     /**
-     * Add a course to teaching list
+     * Add a course code to teaching list
+     * For courses not in the catalog; assigned catalog courses are listed without it
      */
-    public void addCourse(String courseCode) {
-        if (!coursesTaught.contains(courseCode)) {
-            coursesTaught.add(courseCode);
+    public synchronized void addCourse(String courseCode) {
+        coursesTaught.add(courseCode);  // set - duplicates are ignored
+    }
+
+    /**
+     * Get course codes with defensive copying:
+     * assigned catalog courses first, then codes added by addCourse
+     */
+    public synchronized List<String> getCoursesTaught() {
+        var codes = new LinkedHashSet<String>();
+        for (Course course : assignedCourses) {
+            codes.add(course.getCourseCode());
         }
+        codes.addAll(coursesTaught);
+        return new ArrayList<>(codes);
+    }
+
+    /**
+     * Get the assigned catalog courses with defensive copying
+     */
+    public synchronized List<Course> getAssignedCourses() {
+        return new ArrayList<>(assignedCourses);
     }
 
     /**
-     * Get courses with defensive copying
+     * Called by Course.setInstructor when this instructor takes the course;
+     * the course's seat lock is held, so getEnrolled() is stable
      */
-    public List<String> getCoursesTaught() {
-        return new ArrayList<>(coursesTaught);
+    synchronized void assign(Course course) {
+        if (assignedCourses.add(course)) {
+            creditHours += course.getCredits();
+            enrolledHeadcount += course.getEnrolled();
+        }
     }
 
+    /**
+     * Called by Course.setInstructor, under the course's seat lock,
+     * when the course moves to someone else
+     */
+    synchronized void unassign(Course course) {
+        if (assignedCourses.remove(course)) {
+            creditHours -= course.getCredits();
+            enrolledHeadcount -= course.getEnrolled();
+        }
+    }
+
+    /**
+     * Called by Course when a student joins (+1) or leaves (-1) an assigned course
+     */
+    synchronized void adjustHeadcount(int delta) {
+        enrolledHeadcount += delta;
+    }
+
+    // O(1) teaching-load queries, over the assigned catalog courses
+    public synchronized int getCourseCount() {
+        return assignedCourses.size();
+    }
+
+    public synchronized int getCreditHours() {
+        return creditHours;
+    }
+
+    public synchronized int getEnrolledHeadcount() {
+        return enrolledHeadcount;
+    }
+
+    /**
+     * Generate unique instructor ID from the shared lock-free allocator
+     */
     private static String generateInstructorId() {
-        return "INS" + String.format("%05d", ++instructorCounter);
+        return idAllocator.nextId();
+    }
+
+    /**
+     * Replace the ID allocator, e.g. with a persistent one:
+     * Instructor.setIdAllocator(new IdAllocator("INS", IdAllocator.BlockSource.file(path)))
+     */
+    public static void setIdAllocator(IdAllocator allocator) {
+        if (allocator == null) {
+            throw new IllegalArgumentException("ID allocator cannot be null");
+        }
+        idAllocator = allocator;
     }
 
     // Getters and setters
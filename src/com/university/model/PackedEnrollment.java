@@ -0,0 +1,115 @@
+package com.university.model;
+
+import java.time.LocalDate;
+
+/**
+ * Bit-packed enrollment encoding demonstrating:
+ * - Primitive data layout (one long per enrollment)
+ * - Bitwise operations
+ * - Final utility class with static methods
+ *
+ * Layout of the 64-bit value (high to low):
+ *   26 bits student ordinal  (up to 67,108,863 students)
+ *   18 bits course ordinal   (up to 262,143 courses)
+ *   16 bits epoch day        (enrollment date, 1970-01-01 to 2149-06-06)
+ *    4 bits grade            (0 = not graded, otherwise Grade.ordinal() + 1)
+ *
+ * Ordinals come from KeyDictionary instances; the Enrollment record is the
+ * decoded view of a packed value.
+ *
+ * OOP Features Demonstrated:
+ * - Static utility methods
+ * - Bit manipulation
+ * - Validation with unchecked exceptions
+ */
+public final class PackedEnrollment {
+
+    public static final int MAX_STUDENT_ORDINAL = (1 << 26) - 1;
+    public static final int MAX_COURSE_ORDINAL = (1 << 18) - 1;
+    public static final int MAX_EPOCH_DAY = (1 << 16) - 1;
+
+    private static final int GRADE_BITS = 4;
+    private static final int DAY_SHIFT = GRADE_BITS;
+    private static final int COURSE_SHIFT = DAY_SHIFT + 16;
+    private static final int STUDENT_SHIFT = COURSE_SHIFT + 18;
+
+    private static final Grade[] GRADES = Grade.values();
+    public static final int NO_GRADE = 0;
+
+    private PackedEnrollment() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Pack the four fields into one long
+     */
+    public static long pack(int studentOrdinal, int courseOrdinal, LocalDate enrollmentDate, Grade grade) {
+        return pack(studentOrdinal, courseOrdinal, enrollmentDate.toEpochDay(), gradeCode(grade));
+    }
+
+    /**
+     * Overloaded - pack already-encoded fields
+     */
+    public static long pack(int studentOrdinal, int courseOrdinal, long epochDay, int gradeCode) {
+        if (studentOrdinal < 0 || studentOrdinal > MAX_STUDENT_ORDINAL) {
+            throw new IllegalArgumentException("Student ordinal out of range: " + studentOrdinal);
+        }
+        if (courseOrdinal < 0 || courseOrdinal > MAX_COURSE_ORDINAL) {
+            throw new IllegalArgumentException("Course ordinal out of range: " + courseOrdinal);
+        }
+        if (epochDay < 0 || epochDay > MAX_EPOCH_DAY) {
+            throw new IllegalArgumentException("Enrollment date out of range: " + LocalDate.ofEpochDay(epochDay));
+        }
+        return ((long) studentOrdinal << STUDENT_SHIFT)
+            | ((long) courseOrdinal << COURSE_SHIFT)
+            | (epochDay << DAY_SHIFT)
+            | gradeCode;
+    }
+
+    public static int studentOrdinal(long packed) {
+        return (int) (packed >>> STUDENT_SHIFT);
+    }
+
+    public static int courseOrdinal(long packed) {
+        return (int) (packed >>> COURSE_SHIFT) & MAX_COURSE_ORDINAL;
+    }
+
+    public static long epochDay(long packed) {
+        return (packed >>> DAY_SHIFT) & MAX_EPOCH_DAY;
+    }
+
+    public static int gradeCode(long packed) {
+        return (int) packed & ((1 << GRADE_BITS) - 1);
+    }
+
+    /**
+     * Decode the grade, or null if not graded
+     */
+    public static Grade grade(long packed) {
+        int code = gradeCode(packed);
+        return code == NO_GRADE ? null : GRADES[code - 1];
+    }
+
+    /**
+     * Return a copy of the packed value with a different grade
+     */
+    public static long withGrade(long packed, Grade grade) {
+        return (packed & ~((1L << GRADE_BITS) - 1)) | gradeCode(grade);
+    }
+
+    /**
+     * Students and courses share the high bits, so one masked compare
+     * checks the (student, course) pair
+     */
+    public static long pairKey(long packed) {
+        return packed >>> COURSE_SHIFT;
+    }
+
+    public static long pairKey(int studentOrdinal, int courseOrdinal) {
+        return ((long) studentOrdinal << (STUDENT_SHIFT - COURSE_SHIFT)) | courseOrdinal;
+    }
+
+    public static int gradeCode(Grade grade) {
+        return grade == null ? NO_GRADE : grade.ordinal() + 1;
+    }
+}
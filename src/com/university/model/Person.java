@@ -1,5 +1,7 @@
 package com.university.model;
 
+import com.university.util.StringPool;
+
 import java.time.LocalDate;
 
 /**
@@ -9,6 +11,9 @@ import java.time.LocalDate;
  * - Use of this. to reference instance variables
  * - Encapsulation with private fields
  * - Method overloading (multiple constructors)
+ *
+ * Names repeat across millions of records, so they are interned in
+ * StringPool.SHARED at construction and setter time.
  * 
  * OOP Features Demonstrated:
  * - Sealed classes
@@ -23,6 +28,7 @@ public sealed class Person permits Student, Instructor {
     private String email;
     private String phone;
     private LocalDate dateOfBirth;
+    private int profileVersion;  // bumped when a field shown on transcripts changes
 
     /**
      * Constructor demonstrating this() - constructor chaining
@@ -46,8 +52,8 @@ public sealed class Person permits Student, Instructor {
      */
     public Person(String firstName, String lastName, String email, 
                   String phone, LocalDate dateOfBirth) {
-        this.firstName = firstName;      // this. refers to instance variable
-        this.lastName = lastName;        // this. refers to instance variable
+        this.firstName = StringPool.SHARED.intern(firstName);  // this. refers to instance variable
+        this.lastName = StringPool.SHARED.intern(lastName);    // this. refers to instance variable
         this.email = email;              // this. refers to instance variable
         this.phone = phone;              // this. refers to instance variable
         this.dateOfBirth = dateOfBirth;  // this. refers to instance variable
@@ -59,7 +65,8 @@ public sealed class Person permits Student, Instructor {
     }
 
     public void setFirstName(String firstName) {
-        this.firstName = firstName;  // this. distinguishes parameter from field
+        this.firstName = StringPool.SHARED.intern(firstName);  // this. distinguishes parameter from field
+        profileChanged();
     }
 
     public String getLastName() {
@@ -67,7 +74,8 @@ public sealed class Person permits Student, Instructor {
     }
 
     public void setLastName(String lastName) {
-        this.lastName = lastName;
+        this.lastName = StringPool.SHARED.intern(lastName);
+        profileChanged();
     }
 
     public String getEmail() {
@@ -94,6 +102,21 @@ public sealed class Person permits Student, Instructor {
         this.dateOfBirth = dateOfBirth;
     }
 
+    /**
+     * Version of the profile fields (name, and major for students).
+     * Changes whenever one of them is set, so caches can compare it.
+     */
+    public int getProfileVersion() {
+        return profileVersion;
+    }
+
+    /**
+     * Called by setters (including subclass ones) that change a profile field
+     */
+    protected void profileChanged() {
+        profileVersion++;
+    }
+
     /**
      * Method to get full name - demonstrates String API
      */
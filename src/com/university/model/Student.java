@@ -1,7 +1,11 @@
 package com.university.model;
 
+import com.university.util.IdAllocator;
+import com.university.util.ValidationUtil;
+
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -26,15 +30,25 @@ import java.util.List;
  * - Varargs
  * - Defensive copying
  * - ArrayList usage
+ *
+ * Grades, the grade summary and the GPA are changed under the Student's own
+ * monitor, so courses graded on different threads (e.g. gradebook imports
+ * on different shards) can update the same student safely. GPA observers
+ * are notified while the monitor is held, in the order the grades changed.
+ * The grade summary is copy-on-write: each change builds a new GradeStats
+ * and publishes it through a volatile field, so readers never take the monitor.
  */
 public final class Student extends Person implements Enrollable, Gradeable {
     private String studentId;
     private DepartmentType major;
     private List<Grade> grades;
+    private volatile GradeStats gradeStats = GradeStats.EMPTY;  // immutable once published
     private LocalDate enrollmentDate;
-    private double gpa;
+    private volatile double gpa;  // written under the monitor, read without it
     private boolean active;
-    private static int studentCounter = 0;
+    private volatile StudentObserver[] observers = NO_OBSERVERS;  // copy-on-write, usually empty
+    private static final StudentObserver[] NO_OBSERVERS = new StudentObserver[0];
+    private static volatile IdAllocator idAllocator = new IdAllocator("STU", IdAllocator.BlockSource.inMemory());
 
     /**
      * Constructor demonstrating super() - calling parent constructor
@@ -64,6 +78,42 @@ public final class Student extends Person implements Enrollable, Gradeable {
         this.active = true;
     }
 
+    /**
+     * Constructor for a student whose ID was already issued elsewhere,
+     * e.g. a record replicated to a cluster node. Does not draw an ID
+     * from the allocator.
+     */
+    public Student(String studentId, String firstName, String lastName, String email, DepartmentType major) {
+        super(firstName, lastName, email);
+        if (!ValidationUtil.isValidStudentId(studentId)) {
+            throw new IllegalArgumentException("Invalid student ID: " + studentId);
+        }
+        this.studentId = studentId;
+        this.major = major;
+        this.grades = new ArrayList<>();
+        this.enrollmentDate = LocalDate.now();
+        this.gpa = 0.0;
+        this.active = true;
+    }
+
+    /**
+     * Full constructor for a student whose ID was already issued elsewhere,
+     * e.g. a generated dataset that must be reproducible from its seed
+     */
+    public Student(String studentId, String firstName, String lastName, String email,
+                   String phone, LocalDate dateOfBirth, DepartmentType major) {
+        super(firstName, lastName, email, phone, dateOfBirth);
+        if (!ValidationUtil.isValidStudentId(studentId)) {
+            throw new IllegalArgumentException("Invalid student ID: " + studentId);
+        }
+        this.studentId = studentId;
+        this.major = major;
+        this.grades = new ArrayList<>();
+        this.enrollmentDate = LocalDate.now();
+        this.gpa = 0.0;
+        this.active = true;
+    }
+
     /**
      * Method demonstrating super. to access parent class method
      * super. accesses parent class members
@@ -95,35 +145,80 @@ public final class Student extends Person implements Enrollable, Gradeable {
      * Method overloading - same method name, different parameters
      * Adds a single grade
      */
-    public void addGrade(Grade grade) {
+    public synchronized void addGrade(Grade grade) {
         if (grade == null) {
             throw new IllegalArgumentException("Grade cannot be null");
         }
         grades.add(grade);
-        calculateGPA();
+        GradeStats updated = gradeStats.copy();
+        updated.add(grade);
+        publish(updated);
     }
 
     /**
      * Overloaded method - adds multiple grades using varargs
      * Demonstrates varargs (variable arguments)
      */
-    public void addGrade(Grade... newGrades) {  // Varargs - takes 0 or more Grade objects
+    public synchronized void addGrade(Grade... newGrades) {  // Varargs - takes 0 or more Grade objects
+        GradeStats updated = gradeStats.copy();
         for (Grade grade : newGrades) {
             if (grade != null) {
                 grades.add(grade);
+                updated.add(grade);
             }
         }
-        calculateGPA();
+        publish(updated);
     }
 
     /**
      * Overloaded method - adds grades from a list
      */
-    public void addGrade(List<Grade> newGrades) {
+    public synchronized void addGrade(List<Grade> newGrades) {
         if (newGrades != null) {
-            grades.addAll(newGrades);
-            calculateGPA();
+            GradeStats updated = gradeStats.copy();
+            for (Grade grade : newGrades) {
+                if (grade != null) {
+                    grades.add(grade);
+                    updated.add(grade);
+                }
+            }
+            publish(updated);
+        }
+    }
+
+    /**
+     * Replace one earlier grade with a new one, e.g. when a course is regraded.
+     * With no previous grade (or none matching) this is the same as addGrade.
+     */
+    public synchronized void replaceGrade(Grade previous, Grade replacement) {
+        if (replacement == null) {
+            throw new IllegalArgumentException("Grade cannot be null");
+        }
+        GradeStats updated = gradeStats.copy();
+        if (previous != null && grades.remove(previous)) {
+            updated.remove(previous);
+        }
+        grades.add(replacement);
+        updated.add(replacement);
+        publish(updated);
+    }
+
+    /**
+     * Replace every grade at once, e.g. with the grades recomputed from the
+     * enrollment records at term end; GPA observers see a single change
+     */
+    public synchronized void setGrades(List<Grade> newGrades) {
+        if (newGrades == null) {
+            throw new IllegalArgumentException("Grades cannot be null");
+        }
+        for (Grade grade : newGrades) {
+            if (grade == null) {
+                throw new IllegalArgumentException("Grade cannot be null");
+            }
         }
+        grades.clear();
+        grades.addAll(newGrades);
+        publish(GradeStats.of(newGrades));
     }
 
     /**
@@ -135,27 +230,61 @@ public final class Student extends Person implements Enrollable, Gradeable {
     }
 
     /**
-     * Calculates GPA from grades
+     * Publish a new grade summary, recalculate the GPA from it in O(1)
+     * and notify observers if it changed; caller holds the monitor
      */
-    private void calculateGPA() {
-        if (grades.isEmpty()) {
-            this.gpa = 0.0;
-            return;
-        }
+    private void publish(GradeStats updated) {
+        gradeStats = updated;
+        double oldGPA = gpa;
+        this.gpa = updated.getGPA();
         
-        double totalPoints = 0.0;
-        for (Grade grade : grades) {
-            totalPoints += grade.getGradePoint();
+        if (gpa != oldGPA) {
+            for (StudentObserver observer : observers) {
+                observer.onGPAChanged(this, oldGPA, gpa);
+            }
+        }
+    }
+
+    /**
+     * Register an observer for GPA, major and active-status changes
+     */
+    public synchronized void addObserver(StudentObserver observer) {
+        if (observer == null) {
+            throw new IllegalArgumentException("Observer cannot be null");
+        }
+        StudentObserver[] updated = Arrays.copyOf(observers, observers.length + 1);
+        updated[observers.length] = observer;
+        observers = updated;
+    }
+
+    public synchronized void removeObserver(StudentObserver observer) {
+        for (int i = 0; i < observers.length; i++) {
+            if (observers[i] == observer) {
+                StudentObserver[] updated = new StudentObserver[observers.length - 1];
+                System.arraycopy(observers, 0, updated, 0, i);
+                System.arraycopy(observers, i + 1, updated, i, observers.length - i - 1);
+                observers = updated.length == 0 ? NO_OBSERVERS : updated;
+                return;
+            }
         }
-        
-        this.gpa = Math.round((totalPoints / grades.size()) * 100.0) / 100.0;
     }
 
     /**
-     * Generate unique student ID
+     * Generate unique student ID from the shared lock-free allocator
      */
     private static String generateStudentId() {
-        return "STU" + String.format("%05d", ++studentCounter);
+        return idAllocator.nextId();
+    }
+
+    /**
+     * Replace the ID allocator, e.g. with a persistent one:
+     * Student.setIdAllocator(new IdAllocator("STU", IdAllocator.BlockSource.file(path)))
+     */
+    public static void setIdAllocator(IdAllocator allocator) {
+        if (allocator == null) {
+            throw new IllegalArgumentException("ID allocator cannot be null");
+        }
+        idAllocator = allocator;
     }
 
     // Implementing Enrollable interface
@@ -181,12 +310,21 @@ public final class Student extends Person implements Enrollable, Gradeable {
     }
 
     @Override
-    public List<Grade> getGrades() {
+    public synchronized List<Grade> getGrades() {
         // Defensive copying - return a copy to prevent external modification
         // Demonstrates call-by-value and defensive copying
         return new ArrayList<>(grades);
     }
 
+    /**
+     * Read-only summary of the grades - the published snapshot itself, which
+     * is never changed, so it stays consistent while other threads add grades
+     */
+    @Override
+    public GradeStats getGradeStats() {
+        return gradeStats;
+    }
+
     // Getters and setters
     public String getStudentId() {
         return studentId;
@@ -197,11 +335,24 @@ public final class Student extends Person implements Enrollable, Gradeable {
     }
 
     public void setMajor(DepartmentType major) {
+        DepartmentType oldMajor = this.major;
         this.major = major;
+        if (oldMajor != major) {
+            profileChanged();
+            for (StudentObserver observer : observers) {
+                observer.onMajorChanged(this, oldMajor, major);
+            }
+        }
     }
 
     public void setActive(boolean active) {
+        boolean changed = this.active != active;
         this.active = active;
+        if (changed) {
+            for (StudentObserver observer : observers) {
+                observer.onActiveChanged(this, active);
+            }
+        }
     }
 
     @Override
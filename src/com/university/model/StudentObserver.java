@@ -0,0 +1,30 @@
+package com.university.model;
+
+/**
+ * Observer interface for changes to a Student
+ *
+ * Every method has an empty default so an observer only overrides the
+ * changes it cares about. Callbacks run synchronously on the thread that
+ * made the change, after the new value is visible through the getters.
+ *
+ * OOP Features Demonstrated:
+ * - Observer pattern
+ * - Default methods
+ */
+public interface StudentObserver {
+
+    /**
+     * The student was added to an observed population (e.g. a StudentService)
+     */
+    default void onStudentAdded(Student student) {
+    }
+
+    default void onGPAChanged(Student student, double oldGPA, double newGPA) {
+    }
+
+    default void onMajorChanged(Student student, DepartmentType oldMajor, DepartmentType newMajor) {
+    }
+
+    default void onActiveChanged(Student student, boolean active) {
+    }
+}
@@ -1,39 +1,83 @@
 package com.university.model;
 
+import com.university.metrics.Metrics;
+import com.university.metrics.TranscriptRenderEvent;
+import com.university.util.DateUtil;
+
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Custom Immutable Type demonstrating:
  * - Immutability best practices
  * - Final class (cannot be extended)
- * - Final fields (cannot be changed)
+ * - Final fields for every recorded value (cannot be changed)
  * - Defensive copying in constructor and getters
  * - No setters (immutable after construction)
+ * - Lazy, memoized derived fields
+ *
+ * The enrollment list is taken with List.copyOf, which returns an already
+ * immutable list (such as EnrollmentService.getStudentSnapshot) as-is, so a
+ * transcript over a shared snapshot is built in O(1). Credits, term sections
+ * and the rendered report are only computed when first read and then kept,
+ * so those three memo fields are the only non-final ones; they hold values
+ * derived from the final fields and are never exposed for writing. Because
+ * every input is immutable, a racy first computation just produces the same
+ * value twice - the same trick String.hashCode uses.
  * 
  * OOP Features Demonstrated:
  * - Custom immutable type
  * - Defensive copying
  * - Final keyword usage
  * - Encapsulation
+ * - Nested record
  */
 public final class Transcript {  // final - cannot be extended
+    private static final int ESTIMATE_CREDITS = -1;  // marker: estimate credits on first read
+
     private final String studentId;           // final - cannot be changed
     private final String studentName;         // final - cannot be changed
     private final DepartmentType major;       // final - cannot be changed
-    private final List<Enrollment> enrollments;  // final reference (list contents can change internally)
+    private final List<Enrollment> enrollments;  // final reference to an immutable list
     private final double gpa;                 // final - cannot be changed
     private final LocalDate generatedDate;    // final - cannot be changed
-    private final int totalCredits;           // final - cannot be changed
+    private final CreditTotals creditTotals;  // null when credits are only estimated
+    private int totalCredits;                 // memoized; ESTIMATE_CREDITS until first read
+    private List<TermSection> termSections;   // memoized on first read
+    private String report;                    // memoized on first render
+
+    /**
+     * One term's enrollments, in the order they were recorded
+     */
+    public record TermSection(String term, List<Enrollment> enrollments) {
+        public TermSection {
+            enrollments = List.copyOf(enrollments);
+        }
+
+        public long gradedCount() {
+            return enrollments.stream().filter(Enrollment::isGraded).count();
+        }
+    }
 
     /**
      * Constructor with defensive copying
-     * Takes mutable objects but makes defensive copies
+     * Takes mutable objects but makes defensive copies; an immutable list is shared
      */
     public Transcript(String studentId, String studentName, DepartmentType major, 
                      List<Enrollment> enrollments, double gpa, int totalCredits) {
+        this(studentId, studentName, major, enrollments, gpa, requireCredits(totalCredits), null);
+    }
+
+    /**
+     * Constructor also keeping the credit totals the registrar maintains;
+     * totalCredits may be ESTIMATE_CREDITS, which only the factories pass
+     */
+    private Transcript(String studentId, String studentName, DepartmentType major,
+                       List<Enrollment> enrollments, double gpa, int totalCredits,
+                       CreditTotals creditTotals) {
         // Validate inputs
         if (studentId == null || studentId.isEmpty()) {
             throw new IllegalArgumentException("Student ID cannot be null or empty");
@@ -50,13 +94,13 @@ public final class Transcript {  // final - cannot be extended
         this.studentName = studentName;
         this.major = major;
         
-        // Defensive copy - create new list from provided list
-        // This prevents external modification of the internal list
-        this.enrollments = enrollments != null ? 
-            new ArrayList<>(enrollments) : new ArrayList<>();
+        // Defensive copy - List.copyOf copies a mutable list but returns an
+        // immutable one unchanged, so shared snapshots cost nothing here
+        this.enrollments = enrollments != null ? List.copyOf(enrollments) : List.of();
         
         this.gpa = gpa;
         this.totalCredits = totalCredits;
+        this.creditTotals = creditTotals;
         this.generatedDate = LocalDate.now();  // Set at creation time
     }
 
@@ -70,32 +114,92 @@ public final class Transcript {  // final - cannot be extended
             student.getMajor(),
             enrollments,
             student.getGPA(),
-            calculateTotalCredits(enrollments)
+            ESTIMATE_CREDITS,  // estimated lazily in getTotalCredits
+            null
         );
     }
 
     /**
-     * Helper method to calculate total credits
+     * Overloaded factory method using the student's real credit totals
+     * (maintained by EnrollmentService) instead of the estimate; the report
+     * then also shows the credit-weighted GPA
+     */
+    public static Transcript createFromStudent(Student student, List<Enrollment> enrollments,
+                                               CreditTotals totals) {
+        return new Transcript(
+            student.getStudentId(),
+            student.getFullName(),
+            student.getMajor(),
+            enrollments,
+            student.getGPA(),
+            totals.attemptedCredits(),
+            totals
+        );
+    }
+
+    private static int requireCredits(int totalCredits) {
+        if (totalCredits < 0) {
+            throw new IllegalArgumentException("Total credits cannot be negative: " + totalCredits);
+        }
+        return totalCredits;
+    }
+
+    /**
+     * Helper method to estimate total credits when no credit totals are available
      */
     private static int calculateTotalCredits(List<Enrollment> enrollments) {
-        // This is a simplified version - would need course credit info in real system
-        return enrollments != null ? enrollments.size() * 3 : 0;
+        // Estimate only - use the CreditTotals overload for real course credits
+        return enrollments.size() * 3;
     }
 
     /**
-     * Getter with defensive copy
-     * Returns unmodifiable view to prevent external modification
+     * Getter without copying
+     * The list is already immutable, so it is safe to hand out directly
      */
     public List<Enrollment> getEnrollments() {
-        // Return unmodifiable view - even safer than copying
-        return Collections.unmodifiableList(enrollments);
+        return enrollments;
+    }
+
+    /**
+     * Enrollments grouped by term (see DateUtil.getSemester), in record order.
+     * Grouped on first call and memoized.
+     */
+    public List<TermSection> getTermSections() {
+        List<TermSection> sections = termSections;
+        if (sections == null) {
+            Map<String, List<Enrollment>> byTerm = new LinkedHashMap<>();
+            for (var enrollment : enrollments) {  // LVTI
+                byTerm.computeIfAbsent(DateUtil.getSemester(enrollment.enrollmentDate()),
+                    term -> new ArrayList<>()).add(enrollment);
+            }
+            List<TermSection> built = new ArrayList<>(byTerm.size());
+            byTerm.forEach((term, records) -> built.add(new TermSection(term, records)));
+            sections = List.copyOf(built);
+            termSections = sections;
+        }
+        return sections;
     }
 
     /**
      * Generate transcript as formatted string
-     * Demonstrates StringBuilder usage
+     * Rendered on the first call and memoized; later calls return the same text
      */
     public String generateTranscriptReport() {
+        String text = report;
+        if (text == null) {
+            text = renderReport();
+            report = text;
+        }
+        return text;
+    }
+
+    /**
+     * Demonstrates StringBuilder usage
+     */
+    private String renderReport() {
+        var event = new TranscriptRenderEvent();  // JFR
+        event.begin();
+        long start = System.nanoTime();
         var report = new StringBuilder();  // LVTI
         
         report.append("=" .repeat(50)).append("\n");
@@ -106,7 +210,10 @@ public final class Transcript {  // final - cannot be extended
         report.append("Name: ").append(studentName).append("\n");
         report.append("Major: ").append(major.getFullName()).append("\n");
         report.append("GPA: ").append(String.format("%.2f", gpa)).append("\n");
-        report.append("Total Credits: ").append(totalCredits).append("\n");
+        if (creditTotals != null) {
+            report.append("Weighted GPA: ").append(String.format("%.2f", creditTotals.weightedGPA())).append("\n");
+        }
+        report.append("Total Credits: ").append(getTotalCredits()).append("\n");
         report.append("Generated: ").append(generatedDate).append("\n\n");
         
         report.append("COURSE HISTORY:\n");
@@ -122,6 +229,13 @@ public final class Transcript {  // final - cannot be extended
         
         report.append("=".repeat(50)).append("\n");
         
+        Metrics.TRANSCRIPTS.recordRender(System.nanoTime() - start, report.length());
+        event.end();
+        if (event.shouldCommit()) {
+            event.studentId = studentId;
+            event.characters = report.length();
+            event.commit();
+        }
         return report.toString();
     }
 
@@ -146,8 +260,27 @@ public final class Transcript {  // final - cannot be extended
         return generatedDate;  // LocalDate is immutable, so safe to return directly
     }
 
+    /**
+     * Credit-weighted GPA, or NaN when the transcript was built without credit totals
+     */
+    public double getWeightedGpa() {
+        return creditTotals != null ? creditTotals.weightedGPA() : Double.NaN;
+    }
+
+    /**
+     * Credit totals the transcript was built from, or null if credits were estimated
+     */
+    public CreditTotals getCreditTotals() {
+        return creditTotals;
+    }
+
     public int getTotalCredits() {
-        return totalCredits;
+        int credits = totalCredits;
+        if (credits == ESTIMATE_CREDITS) {
+            credits = calculateTotalCredits(enrollments);
+            totalCredits = credits;
+        }
+        return credits;
     }
 
     /**
@@ -171,6 +304,6 @@ public final class Transcript {  // final - cannot be extended
     @Override
     public String toString() {
         return String.format("Transcript{student='%s', gpa=%.2f, credits=%d, date=%s}", 
-            studentName, gpa, totalCredits, generatedDate);
+            studentName, gpa, getTotalCredits(), generatedDate);
     }
 }
\ No newline at end of file
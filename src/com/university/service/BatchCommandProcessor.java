@@ -0,0 +1,284 @@
+package com.university.service;
+
+import com.university.exception.EnrollmentException;
+import com.university.exception.InvalidGradeException;
+import com.university.model.Course;
+import com.university.model.DepartmentType;
+import com.university.model.Grade;
+import com.university.model.Student;
+import com.university.util.GradeUtil;
+import com.university.util.ValidationUtil;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-interactive command processor for registrar batch files
+ *
+ * One command per line, fields separated by spaces or tabs; blank lines
+ * and lines starting with # are skipped:
+ *   add-course  <code> <department> <credits> <capacity>
+ *   add-student <first> <last> <email> <major>   -> OK <studentId>
+ *   enroll      <studentId> <courseCode>
+ *   grade       <studentId> <courseCode> <grade>  (A+, B-, C, A_PLUS or a percentage)
+ *   transcript  <studentId>                       -> OK <report on one line>
+ *
+ * Input is read through a BufferedReader BATCH_SIZE lines at a time; each
+ * batch is parsed, then applied in order, and its results are written to
+ * the (buffered) output in one go. Every command produces one result line,
+ * "OK ..." or "ERR <line>: <message>", so output lines map back to input.
+ * The multi-line transcript report is kept on its line by writing line
+ * breaks as \n and backslashes as \\.
+ *
+ * OOP Features Demonstrated:
+ * - Records (parsed commands, run summary)
+ * - Enums with switch expressions
+ * - Exception handling per command
+ */
+public class BatchCommandProcessor {
+
+    static final int BATCH_SIZE = 4_096;
+    private static final int MAX_FIELDS = 6;
+
+    private final StudentService studentService;
+    private final EnrollmentService enrollmentService;
+    private final TranscriptCache transcriptCache;
+    private final List<Course> courses;
+    private final Map<String, Course> coursesByCode = new HashMap<>();
+
+    private enum CommandType {
+        ADD_COURSE("add-course", 4),
+        ADD_STUDENT("add-student", 4),
+        ENROLL("enroll", 2),
+        GRADE("grade", 3),
+        TRANSCRIPT("transcript", 1);
+
+        private final String keyword;
+        private final int arguments;
+
+        CommandType(String keyword, int arguments) {
+            this.keyword = keyword;
+            this.arguments = arguments;
+        }
+
+        static CommandType forKeyword(String keyword) {
+            for (CommandType type : values()) {
+                if (type.keyword.equals(keyword)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    private record Command(int lineNumber, CommandType type, String[] args, String error) {}
+
+    /**
+     * Outcome of one run
+     */
+    public record Summary(int commands, int succeeded, int failed, long elapsedNanos) {
+        public double commandsPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : commands * 1e9 / elapsedNanos;
+        }
+    }
+
+    /**
+     * @param courses existing courses; add-course appends to this list
+     */
+    public BatchCommandProcessor(StudentService studentService, EnrollmentService enrollmentService,
+                                 TranscriptCache transcriptCache, List<Course> courses) {
+        this.studentService = studentService;
+        this.enrollmentService = enrollmentService;
+        this.transcriptCache = transcriptCache;
+        this.courses = courses;
+        for (Course course : courses) {
+            coursesByCode.put(course.getCourseCode().toUpperCase(), course);
+        }
+    }
+
+    /**
+     * Process every command from in, writing one result per command to out.
+     * out is flushed after each batch but not closed.
+     */
+    public Summary run(BufferedReader in, Writer out) throws IOException {
+        long start = System.nanoTime();
+        Command[] batch = new Command[BATCH_SIZE];
+        int lineNumber = 0;
+        int commands = 0;
+        int failed = 0;
+        var result = new StringBuilder(256);
+
+        while (true) {
+            // Parse phase: fill the batch
+            int size = 0;
+            String line;
+            while (size < BATCH_SIZE && (line = in.readLine()) != null) {
+                lineNumber++;
+                Command command = parse(lineNumber, line);
+                if (command != null) {
+                    batch[size++] = command;
+                }
+            }
+            if (size == 0) {
+                break;
+            }
+
+            // Apply phase: in input order, results buffered
+            for (int i = 0; i < size; i++) {
+                result.setLength(0);
+                if (!apply(batch[i], result)) {
+                    failed++;
+                }
+                result.append('\n');
+                out.append(result);
+                batch[i] = null;
+            }
+            commands += size;
+            out.flush();
+        }
+
+        return new Summary(commands, commands - failed, failed, System.nanoTime() - start);
+    }
+
+    /**
+     * Split a line into a command; null for blank and comment lines
+     */
+    private static Command parse(int lineNumber, String line) {
+        String[] fields = new String[MAX_FIELDS];
+        int count = 0;
+        int i = 0;
+        int length = line.length();
+        while (i < length) {
+            while (i < length && isBlank(line.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                break;
+            }
+            int startField = i;
+            while (i < length && !isBlank(line.charAt(i))) {
+                i++;
+            }
+            if (count == MAX_FIELDS) {
+                return new Command(lineNumber, null, null, "too many fields");
+            }
+            fields[count++] = line.substring(startField, i);
+        }
+        if (count == 0 || fields[0].charAt(0) == '#') {
+            return null;
+        }
+
+        CommandType type = CommandType.forKeyword(fields[0]);
+        if (type == null) {
+            return new Command(lineNumber, null, null, "unknown command '" + fields[0] + "'");
+        }
+        if (count - 1 != type.arguments) {
+            return new Command(lineNumber, type, null,
+                type.keyword + " expects " + type.arguments + " arguments but got " + (count - 1));
+        }
+        String[] args = new String[type.arguments];
+        System.arraycopy(fields, 1, args, 0, args.length);
+        return new Command(lineNumber, type, args, null);
+    }
+
+    private static boolean isBlank(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    /**
+     * Apply one command, appending its result; returns false on failure
+     */
+    private boolean apply(Command command, StringBuilder result) {
+        if (command.error() != null) {
+            return fail(command, command.error(), result);
+        }
+        String[] a = command.args();
+        try {
+            switch (command.type()) {
+                case ADD_COURSE -> {
+                    String code = a[0].toUpperCase();
+                    if (!ValidationUtil.isValidCourseCode(code)) {
+                        return fail(command, "invalid course code " + a[0], result);
+                    }
+                    if (coursesByCode.containsKey(code)) {
+                        return fail(command, "course already exists: " + code, result);
+                    }
+                    var course = new Course(code, code, DepartmentType.parse(a[1]),
+                        Integer.parseInt(a[2]), Integer.parseInt(a[3]));
+                    courses.add(course);
+                    coursesByCode.put(code, course);
+                    result.append("OK ").append(code);
+                }
+                case ADD_STUDENT -> {
+                    if (!ValidationUtil.isValidEmail(a[2])) {
+                        return fail(command, "invalid email " + a[2], result);
+                    }
+                    var student = new Student(a[0], a[1], a[2], DepartmentType.parse(a[3]));
+                    studentService.addStudent(student);
+                    result.append("OK ").append(student.getStudentId());
+                }
+                case ENROLL -> {
+                    Student student = requireStudent(a[0]);
+                    enrollmentService.enrollStudent(student, requireCourse(a[1]));
+                    result.append("OK enrolled ").append(a[0]).append(' ').append(a[1]);
+                }
+                case GRADE -> {
+                    Student student = requireStudent(a[0]);
+                    Grade grade = GradeUtil.parseGrade(a[2]);
+                    Grade previous = enrollmentService.assignGrade(a[0], a[1].toUpperCase(), grade);
+                    student.replaceGrade(previous, grade);  // a regrade swaps out the old grade
+                    result.append("OK graded ").append(a[0]).append(' ').append(a[1]).append(' ').append(grade);
+                }
+                case TRANSCRIPT -> appendEscaped(result.append("OK "),
+                    transcriptCache.getReport(requireStudent(a[0])));
+            }
+            return true;
+        } catch (EnrollmentException | InvalidGradeException | IllegalArgumentException e) {
+            return fail(command, e.getMessage(), result);
+        }
+    }
+
+    private Student requireStudent(String studentId) throws EnrollmentException {
+        Student student = studentService.findById(studentId);
+        if (student == null) {
+            throw new EnrollmentException("student not found: " + studentId);
+        }
+        return student;
+    }
+
+    private Course requireCourse(String courseCode) throws EnrollmentException {
+        Course course = coursesByCode.get(courseCode.toUpperCase());
+        if (course == null) {
+            throw new EnrollmentException("course not found: " + courseCode);
+        }
+        return course;
+    }
+
+    /**
+     * Append text as a single line: \n for a line break (\r\n included), \\ for a backslash
+     */
+    private static void appendEscaped(StringBuilder result, String text) {
+        int length = text.length();
+        if (length > 0 && text.charAt(length - 1) == '\n') {
+            length--;  // no escaped break after the last line
+        }
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> result.append("\\\\");
+                case '\n' -> result.append("\\n");
+                case '\r' -> { }
+                default -> result.append(c);
+            }
+        }
+    }
+
+    private static boolean fail(Command command, String message, StringBuilder result) {
+        result.append("ERR ").append(command.lineNumber()).append(": ").append(message);
+        return false;
+    }
+}
@@ -0,0 +1,133 @@
+package com.university.service;
+
+import com.university.model.Course;
+import com.university.model.Enrollment;
+import com.university.model.Student;
+import com.university.metrics.Metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Single-writer actor owning one Course's seats and roster
+ *
+ * Requests go into a lock-free mailbox. The first request into an idle
+ * mailbox schedules a drain on the executor (a virtual thread); the drain
+ * takes up to MAX_BATCH requests and processes them in arrival order, so
+ * requests for one course never contend with each other while different
+ * courses drain in parallel.
+ *
+ * A drain holds its Course's seat lock for the whole batch, so the actor is
+ * the Course's only writer while it runs; synchronous enrollStudent calls
+ * for the same course take the same lock and wait between batches. The
+ * seat lock is a ReentrantLock, not the Course monitor: a drain that parks
+ * mid-batch (e.g. a listener waiting for ring space) unmounts its virtual
+ * thread instead of pinning the carrier. Actors for different courses share
+ * no lock - per-student records are locked per student inside the service.
+ * Futures are completed after the lock is released so callbacks never run
+ * while holding it.
+ *
+ * OOP Features Demonstrated:
+ * - Actor model (mailbox + single consumer)
+ * - CompletableFuture
+ * - Records (mailbox messages)
+ */
+class CourseActor {
+
+    static final int MAX_BATCH = 256;
+
+    private final Course course;
+    private final EnrollmentService service;
+    private final Executor executor;
+    private final Queue<EnrollRequest> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    // Confined to the draining thread; hand-off between drains is ordered by 'scheduled'
+    private final List<EnrollRequest> batch = new ArrayList<>(MAX_BATCH);
+    private final Object[] outcomes = new Object[MAX_BATCH];
+
+    private record EnrollRequest(Student student, CompletableFuture<Enrollment> result) {}
+
+    CourseActor(Course course, EnrollmentService service, Executor executor) {
+        this.course = course;
+        this.service = service;
+        this.executor = executor;
+    }
+
+    Course getCourse() {
+        return course;
+    }
+
+    CompletableFuture<Enrollment> enroll(Student student) {
+        var result = new CompletableFuture<Enrollment>();
+        mailbox.offer(new EnrollRequest(student, result));
+        scheduleDrain();
+        return result;
+    }
+
+    int getMailboxSize() {
+        return mailbox.size();
+    }
+
+    private void scheduleDrain() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            EnrollRequest request;
+            while (batch.size() < MAX_BATCH && (request = mailbox.poll()) != null) {
+                batch.add(request);
+            }
+
+            ReentrantLock seatLock = course.getSeatLock();
+            seatLock.lock();
+            try {
+                for (int i = 0; i < batch.size(); i++) {
+                    try {
+                        outcomes[i] = service.enrollStudent(batch.get(i).student(), course);
+                    } catch (Exception e) {
+                        outcomes[i] = e;
+                    }
+                }
+            } finally {
+                seatLock.unlock();
+            }
+
+            for (int i = 0; i < batch.size(); i++) {
+                CompletableFuture<Enrollment> result = batch.get(i).result();
+                if (outcomes[i] instanceof Enrollment enrollment) {
+                    result.complete(enrollment);
+                } else {
+                    result.completeExceptionally((Exception) outcomes[i]);
+                }
+            }
+            Metrics.ENROLLMENT.recordMailboxBatch(batch.size());
+        } catch (Throwable t) {
+            // Never leave a caller waiting on a request this batch took
+            for (EnrollRequest taken : batch) {
+                taken.result().completeExceptionally(t);
+            }
+            throw t;
+        } finally {
+            Arrays.fill(outcomes, null);
+            batch.clear();
+
+            // Release the actor, then re-check: a request offered after our last
+            // poll but before the release would otherwise wait for the next sender
+            scheduled.set(false);
+            if (!mailbox.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
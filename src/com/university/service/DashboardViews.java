@@ -0,0 +1,189 @@
+package com.university.service;
+
+import com.university.model.DepartmentType;
+import com.university.model.Enrollment;
+import com.university.model.Student;
+import com.university.model.StudentObserver;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Incrementally maintained views behind the registrar dashboard
+ *
+ * Instead of scanning students and enrollments on every refresh, the views
+ * subscribe to student changes (add, GPA, major, active) and enrollment
+ * changes (enroll, drop) and adjust running aggregates in O(1) per change.
+ * Reads never touch the underlying collections.
+ *
+ * GPAs are summed in hundredths - Student rounds GPA to two decimals - so
+ * the running average is exact however many adds and removes it sees.
+ *
+ * Usage:
+ *   var views = new DashboardViews();
+ *   views.attach(studentService, enrollmentService);
+ *
+ * Or, with an EventBus, take the enrollment counts off the request thread:
+ *   bus.addHandler("dashboard", new DashboardEventHandler(views));
+ *   views.attachStudents(studentService, enrollmentService);
+ * The per-course counts then trail the service by the bus backlog.
+ *
+ * OOP Features Demonstrated:
+ * - Observer pattern (implements two listener interfaces)
+ * - EnumMap
+ * - Concurrent counters (LongAdder)
+ */
+public class DashboardViews implements StudentObserver, EnrollmentListener {
+
+    private final LongAdder studentCount = new LongAdder();
+    private final LongAdder activeCount = new LongAdder();
+    private final LongAdder honorRollCount = new LongAdder();
+    private final LongAdder gpaHundredthsSum = new LongAdder();
+    private final EnumMap<DepartmentType, LongAdder> studentsByMajor = new EnumMap<>(DepartmentType.class);
+    private final Map<String, LongAdder> enrollmentsByCourse = new ConcurrentHashMap<>();
+
+    public DashboardViews() {
+        for (DepartmentType dept : DepartmentType.values()) {
+            studentsByMajor.put(dept, new LongAdder());  // pre-filled, never structurally modified afterwards
+        }
+    }
+
+    /**
+     * Subscribe to both services; existing students and enrollments are counted once here
+     */
+    public void attach(StudentService studentService, EnrollmentService enrollmentService) {
+        studentService.addStudentObserver(this);
+        for (Enrollment enrollment : enrollmentService.getAllEnrollments()) {
+            onEnrolled(enrollment);
+        }
+        enrollmentService.addEnrollmentListener(this);
+    }
+
+    /**
+     * Subscribe to student changes only and count existing enrollments once;
+     * later enrollment changes arrive through courseEnrolled/courseDropped,
+     * e.g. from the EventBus via DashboardEventHandler
+     */
+    public void attachStudents(StudentService studentService, EnrollmentService enrollmentService) {
+        studentService.addStudentObserver(this);
+        for (Enrollment enrollment : enrollmentService.getAllEnrollments()) {
+            courseEnrolled(enrollment.courseCode());
+        }
+    }
+
+    // ---- StudentObserver ----
+
+    @Override
+    public void onStudentAdded(Student student) {
+        studentCount.increment();
+        if (student.isActive()) {
+            activeCount.increment();
+        }
+        adjustMajor(student.getMajor(), 1);
+        adjustGPA(student.getGPA(), 1);
+    }
+
+    @Override
+    public void onGPAChanged(Student student, double oldGPA, double newGPA) {
+        adjustGPA(oldGPA, -1);
+        adjustGPA(newGPA, 1);
+    }
+
+    @Override
+    public void onMajorChanged(Student student, DepartmentType oldMajor, DepartmentType newMajor) {
+        adjustMajor(oldMajor, -1);
+        adjustMajor(newMajor, 1);
+    }
+
+    @Override
+    public void onActiveChanged(Student student, boolean active) {
+        activeCount.add(active ? 1 : -1);
+    }
+
+    // ---- EnrollmentListener ----
+
+    @Override
+    public void onEnrolled(Enrollment enrollment) {
+        courseEnrolled(enrollment.courseCode());
+    }
+
+    @Override
+    public void onDropped(Enrollment enrollment) {
+        courseDropped(enrollment.courseCode());
+    }
+
+    public void courseEnrolled(String courseCode) {
+        enrollmentsByCourse.computeIfAbsent(courseCode, code -> new LongAdder()).increment();
+    }
+
+    /**
+     * Always counted: listeners run outside the service's locks, so a drop
+     * can be reported before the enroll it undoes - the sum settles at zero
+     */
+    public void courseDropped(String courseCode) {
+        enrollmentsByCourse.computeIfAbsent(courseCode, code -> new LongAdder()).decrement();
+    }
+
+    private void adjustMajor(DepartmentType major, int delta) {
+        if (major != null) {
+            studentsByMajor.get(major).add(delta);
+        }
+    }
+
+    private void adjustGPA(double gpa, int delta) {
+        gpaHundredthsSum.add(delta * Math.round(gpa * 100.0));
+        if (gpa >= 3.5) {  // same threshold as Gradeable.isHonorRoll()
+            honorRollCount.add(delta);
+        }
+    }
+
+    // ---- Dashboard reads - O(1), or O(departments)/O(courses) for the maps ----
+
+    public long getStudentCount() {
+        return studentCount.sum();
+    }
+
+    public long getActiveCount() {
+        return activeCount.sum();
+    }
+
+    public long getHonorRollCount() {
+        return honorRollCount.sum();
+    }
+
+    /**
+     * Same value as StudentService.calculateAverageGPA(), without the scan
+     */
+    public double getAverageGPA() {
+        long count = studentCount.sum();
+        return count == 0 ? 0.0 : gpaHundredthsSum.sum() / 100.0 / count;
+    }
+
+    public long getStudentCount(DepartmentType major) {
+        return studentsByMajor.get(major).sum();
+    }
+
+    public Map<DepartmentType, Long> getStudentsByMajor() {
+        var snapshot = new EnumMap<DepartmentType, Long>(DepartmentType.class);
+        studentsByMajor.forEach((dept, count) -> snapshot.put(dept, count.sum()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    public long getCourseEnrollment(String courseCode) {
+        LongAdder count = enrollmentsByCourse.get(courseCode);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Enrollment count per course code, sorted by code
+     */
+    public Map<String, Long> getEnrollmentsByCourse() {
+        var snapshot = new TreeMap<String, Long>();
+        enrollmentsByCourse.forEach((code, count) -> snapshot.put(code, count.sum()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+}
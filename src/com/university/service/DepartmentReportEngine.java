@@ -0,0 +1,156 @@
+package com.university.service;
+
+import com.university.model.AcademicStanding;
+import com.university.model.DepartmentReport;
+import com.university.model.DepartmentSummary;
+import com.university.model.DepartmentType;
+import com.university.model.Student;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Single-pass department report engine
+ *
+ * Computes every per-department aggregate (count, active count, GPA mean,
+ * min and max, standing distribution) in one walk over the students instead
+ * of one filter per DepartmentType. Large inputs are split with a
+ * RecursiveTask; each leaf folds its slice into EnumMap-indexed accumulators
+ * and the partial results are merged on the way back up.
+ *
+ * OOP Features Demonstrated:
+ * - Fork/Join framework (RecursiveTask)
+ * - EnumMap
+ * - Private static nested classes
+ */
+public class DepartmentReportEngine {
+
+    /** Slices at or below this size are folded sequentially */
+    static final int SEQUENTIAL_THRESHOLD = 8_192;
+
+    private static final AcademicStanding[] STANDINGS = AcademicStanding.values();
+
+    private final ForkJoinPool pool;
+
+    public DepartmentReportEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public DepartmentReportEngine(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Build the report for the given students
+     */
+    public DepartmentReport generate(List<Student> students) {
+        Student[] snapshot = students.toArray(new Student[0]);
+        EnumMap<DepartmentType, Accumulator> totals = snapshot.length <= SEQUENTIAL_THRESHOLD
+            ? fold(snapshot, 0, snapshot.length)
+            : pool.invoke(new FoldTask(snapshot, 0, snapshot.length));
+
+        var summaries = new EnumMap<DepartmentType, DepartmentSummary>(DepartmentType.class);
+        totals.forEach((dept, acc) -> summaries.put(dept, acc.toSummary(dept)));
+        return new DepartmentReport(summaries);
+    }
+
+    private static EnumMap<DepartmentType, Accumulator> fold(Student[] students, int from, int to) {
+        var accumulators = new EnumMap<DepartmentType, Accumulator>(DepartmentType.class);
+        for (int i = from; i < to; i++) {
+            Student student = students[i];
+            if (student == null || student.getMajor() == null) {
+                continue;
+            }
+            accumulators.computeIfAbsent(student.getMajor(), d -> new Accumulator()).add(student);
+        }
+        return accumulators;
+    }
+
+    private static EnumMap<DepartmentType, Accumulator> merge(EnumMap<DepartmentType, Accumulator> left,
+                                                              EnumMap<DepartmentType, Accumulator> right) {
+        right.forEach((dept, acc) -> left.merge(dept, acc, Accumulator::combine));
+        return left;
+    }
+
+    /**
+     * Recursive split of the student array
+     * ForkJoinTask is Serializable, but tasks are never serialized - the array is transient
+     */
+    private static final class FoldTask extends RecursiveTask<EnumMap<DepartmentType, Accumulator>> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Student[] students;
+        private final int from;
+        private final int to;
+
+        FoldTask(Student[] students, int from, int to) {
+            this.students = students;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected EnumMap<DepartmentType, Accumulator> compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                return fold(students, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            var left = new FoldTask(students, from, mid);
+            left.fork();
+            var right = new FoldTask(students, mid, to).compute();
+            return merge(left.join(), right);
+        }
+    }
+
+    /**
+     * Mutable per-department running totals; confined to one task until merged
+     */
+    private static final class Accumulator {
+        int count;
+        int active;
+        double gpaSum;
+        double minGPA = Double.POSITIVE_INFINITY;
+        double maxGPA = Double.NEGATIVE_INFINITY;
+        final int[] standings = new int[STANDINGS.length];
+
+        void add(Student student) {
+            double gpa = student.getGPA();
+            count++;
+            if (student.isActive()) {
+                active++;
+            }
+            gpaSum += gpa;
+            minGPA = Math.min(minGPA, gpa);
+            maxGPA = Math.max(maxGPA, gpa);
+            standings[AcademicStanding.fromGPA(gpa).ordinal()]++;
+        }
+
+        Accumulator combine(Accumulator other) {
+            count += other.count;
+            active += other.active;
+            gpaSum += other.gpaSum;
+            minGPA = Math.min(minGPA, other.minGPA);
+            maxGPA = Math.max(maxGPA, other.maxGPA);
+            for (int i = 0; i < standings.length; i++) {
+                standings[i] += other.standings[i];
+            }
+            return this;
+        }
+
+        DepartmentSummary toSummary(DepartmentType dept) {
+            var distribution = new EnumMap<AcademicStanding, Integer>(AcademicStanding.class);
+            for (AcademicStanding standing : STANDINGS) {
+                distribution.put(standing, standings[standing.ordinal()]);
+            }
+            if (count == 0) {
+                return new DepartmentSummary(dept, 0, 0, 0.0, 0.0, 0.0, distribution);
+            }
+            return new DepartmentSummary(dept, count, active, gpaSum / count, minGPA, maxGPA, distribution);
+        }
+    }
+}
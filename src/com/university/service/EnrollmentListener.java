@@ -0,0 +1,32 @@
+package com.university.service;
+
+import com.university.model.Enrollment;
+
+/**
+ * Listener for changes to the enrollment records held by an EnrollmentService
+ *
+ * Callbacks run synchronously after the record change is applied, so the
+ * service already reflects the new state when a listener reads it. They
+ * run after the service has released the student's records, so a listener
+ * may block (DomainEventPublisher waiting for ring space) without holding
+ * up other threads' reads of that student; changes to the same student
+ * made concurrently on two threads may therefore be reported in either order.
+ *
+ * OOP Features Demonstrated:
+ * - Observer pattern
+ * - Default methods
+ */
+public interface EnrollmentListener {
+
+    /**
+     * A record was added - by enrollStudent or by a bulk load
+     */
+    default void onEnrolled(Enrollment enrollment) {
+    }
+
+    default void onDropped(Enrollment enrollment) {
+    }
+
+    default void onGraded(Enrollment previous, Enrollment graded) {
+    }
+}
@@ -2,14 +2,35 @@ package com.university.service;
 
 import com.university.model.Student;
 import com.university.model.Course;
+import com.university.model.CreditTotals;
 import com.university.model.Enrollment;
 import com.university.model.Grade;
 import com.university.exception.EnrollmentException;
 import com.university.exception.CourseFullException;
+import com.university.exception.InvalidGradeException;
+import com.university.metrics.BulkOperationEvent;
+import com.university.metrics.EnrollmentEvent;
+import com.university.metrics.EnrollmentMetrics;
+import com.university.metrics.GradeAssignedEvent;
+import com.university.metrics.Metrics;
+import com.university.metrics.RejectionReason;
+import com.university.util.DateUtil;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Enrollment service demonstrating:
@@ -18,17 +39,36 @@ import java.util.List;
  * - Checked exceptions
  * - Method overloading
  * 
+ * Thread-safe without a service-wide lock. A Course's seats and roster are
+ * changed only while holding that Course's seat lock (a CourseActor holds it
+ * for a whole batch), and each student's records, version and credit totals
+ * live in one StudentRecords guarded by its own monitor. Locks are always
+ * taken course first, then student, then the per-course record map, so
+ * operations on different courses and different students never share a lock.
+ * 
  * OOP Features Demonstrated:
  * - Call-by-value
  * - Defensive copying
  * - Exception handling
  */
 public class EnrollmentService {
+
+    // Shared by every service (and every shard); virtual threads need no pool or shutdown
+    private static final Executor ACTOR_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
     
-    private final List<Enrollment> enrollments;
+    private final Map<String, StudentRecords> students;  // student ID -> that student's records
+    private final Map<String, Map<String, Enrollment>> courseIndex;  // course code -> student ID -> record, insertion-ordered
+    private final Map<String, Integer> courseCredits;  // course code -> credits, recorded on enrollment
+    private final AtomicInteger enrollmentCount = new AtomicInteger();
+    private final AtomicLong version = new AtomicLong();  // bumped with every student's version
+    private final EnrollmentMetrics metrics = Metrics.ENROLLMENT;
+    private final List<EnrollmentListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<String, CourseActor> courseActors = new ConcurrentHashMap<>();  // course code -> actor
 
     public EnrollmentService() {
-        this.enrollments = new ArrayList<>();
+        this.students = new ConcurrentHashMap<>();
+        this.courseIndex = new ConcurrentHashMap<>();
+        this.courseCredits = new ConcurrentHashMap<>();
     }
 
     /**
@@ -54,44 +94,174 @@ public class EnrollmentService {
     public Enrollment enrollStudent(Student student, Course course) 
             throws EnrollmentException, CourseFullException {
         
-        // Validation
-        if (student == null) {
-            throw new EnrollmentException("Student cannot be null");
+        var event = new EnrollmentEvent();  // JFR - eliminated by the JIT when disabled
+        event.begin();
+        long start = System.nanoTime();
+        String outcome = "FAILED";
+        try {
+            // Validation
+            if (student == null) {
+                throw reject(RejectionReason.INVALID_INPUT, new EnrollmentException("Student cannot be null"));
+            }
+            if (course == null) {
+                throw reject(RejectionReason.INVALID_INPUT, new EnrollmentException("Course cannot be null"));
+            }
+            if (!student.isActive()) {
+                throw reject(RejectionReason.INACTIVE_STUDENT, new EnrollmentException("Student is not active"));
+            }
+
+            ReentrantLock seatLock = course.getSeatLock();
+            seatLock.lock();  // seat check and seat taken as one step; reentrant for CourseActor
+            try {
+                // Check if course is full
+                if (course.isFull()) {
+                    throw reject(RejectionReason.COURSE_FULL,
+                        new CourseFullException(course.getCourseCode(), course.getCapacity()));
+                }
+
+                // Check if already enrolled
+                if (isStudentEnrolled(student.getStudentId(), course.getCourseCode())) {
+                    throw reject(RejectionReason.ALREADY_ENROLLED,
+                        new EnrollmentException("Student already enrolled in this course"));
+                }
+
+                try {
+                    // Enroll in course
+                    course.enrollStudent(student);
+                    
+                    // Create enrollment record
+                    Enrollment enrollment = new Enrollment(
+                        student.getStudentId(),
+                        course.getCourseCode(),
+                        LocalDate.now()
+                    );
+                    
+                    addRecord(enrollment, course);
+                    outcome = "ENROLLED";
+                    return enrollment;
+                    
+                } catch (Exception e) {
+                    throw reject(RejectionReason.FAILED, new EnrollmentException("Failed to enroll student", e));
+                }
+            } finally {
+                seatLock.unlock();
+            }
+        } catch (EnrollmentException e) {
+            outcome = e.getMessage();
+            throw e;
+        } finally {
+            metrics.recordEnroll(System.nanoTime() - start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.studentId = student != null ? student.getStudentId() : null;
+                event.courseCode = course != null ? course.getCourseCode() : null;
+                event.outcome = outcome;
+                event.commit();
+            }
         }
+    }
+
+    /**
+     * Asynchronous enrollment through the course's single-writer actor.
+     *
+     * Requests for the same course are applied one at a time in arrival
+     * order, in batches, without the callers contending; different courses
+     * are drained in parallel on virtual threads. The future completes with
+     * the new Enrollment, or exceptionally with the same EnrollmentException
+     * / CourseFullException enrollStudent would have thrown.
+     *
+     * Once a course is used through this method, its seats belong to the
+     * actor - keep routing that course's enrollments through here.
+     */
+    public CompletableFuture<Enrollment> enrollStudentAsync(Student student, Course course) {
         if (course == null) {
-            throw new EnrollmentException("Course cannot be null");
+            return CompletableFuture.failedFuture(
+                reject(RejectionReason.INVALID_INPUT, new EnrollmentException("Course cannot be null")));
         }
-        if (!student.isActive()) {
-            throw new EnrollmentException("Student is not active");
+        CourseActor actor = courseActors.computeIfAbsent(course.getCourseCode(),
+            code -> new CourseActor(course, this, ACTOR_EXECUTOR));
+        if (actor.getCourse() != course) {
+            return CompletableFuture.failedFuture(reject(RejectionReason.INVALID_INPUT,
+                new EnrollmentException("Another Course instance is registered for " + course.getCourseCode())));
         }
+        return actor.enroll(student);
+    }
 
-        // Check if course is full
-        if (course.isFull()) {
-            throw new CourseFullException(course.getCourseCode(), course.getCapacity());
+    /**
+     * Bulk-load path for existing records (imports, generated datasets).
+     * Skips the per-call validation of enrollStudent; the caller guarantees the
+     * pair is not already present. Only in-progress (ungraded) records take
+     * a seat in the course - historical graded records do not.
+     */
+    public void loadEnrollment(Student student, Course course, Enrollment enrollment)
+            throws EnrollmentException {
+        if (!enrollment.studentId().equals(student.getStudentId())
+                || !enrollment.courseCode().equals(course.getCourseCode())) {
+            throw new EnrollmentException("Enrollment does not match student and course");
+        }
+        if (enrollment.isGraded()) {
+            addRecord(enrollment, course);
+            return;
+        }
+        ReentrantLock seatLock = course.getSeatLock();
+        seatLock.lock();
+        try {
+            if (course.isFull()) {
+                throw new CourseFullException(course.getCourseCode(), course.getCapacity());
+            }
+            try {
+                course.enrollStudent(student);
+            } catch (Exception e) {
+                throw new EnrollmentException("Failed to load enrollment", e);
+            }
+            addRecord(enrollment, course);
+        } finally {
+            seatLock.unlock();
         }
+    }
 
-        // Check if already enrolled
-        if (isStudentEnrolled(student.getStudentId(), course.getCourseCode())) {
-            throw new EnrollmentException("Student already enrolled in this course");
+    /**
+     * Add a record to the student's records and its course's map; a graded
+     * (historical) record also counts towards the student's grade totals
+     */
+    private void addRecord(Enrollment enrollment, Course course) {
+        int credits = course.getCredits();
+        Integer known = courseCredits.get(course.getCourseCode());
+        if (known == null || known != credits) {  // a read, not a write, once the course is known
+            courseCredits.put(course.getCourseCode(), credits);
+        }
+        StudentRecords records = students.computeIfAbsent(enrollment.studentId(), id -> new StudentRecords());
+        synchronized (records) {
+            records.enrollments.add(enrollment);
+            records.credits.addAttempted(termOf(enrollment), credits);
+            if (enrollment.isGraded()) {
+                records.credits.addGrade(termOf(enrollment), enrollment.finalGrade(), credits);
+            }
+            Map<String, Enrollment> courseRecords = courseIndex.computeIfAbsent(enrollment.courseCode(),
+                code -> new LinkedHashMap<>());
+            synchronized (courseRecords) {
+                courseRecords.put(enrollment.studentId(), enrollment);
+            }
+            enrollmentCount.incrementAndGet();
+            changed(records);
         }
+        for (EnrollmentListener listener : listeners) {  // outside the monitor - listeners may block
+            listener.onEnrolled(enrollment);
+        }
+    }
 
-        try {
-            // Enroll in course
-            course.enrollStudent(student);
-            
-            // Create enrollment record
-            Enrollment enrollment = new Enrollment(
-                student.getStudentId(),
-                course.getCourseCode(),
-                LocalDate.now()
-            );
-            
-            enrollments.add(enrollment);
-            return enrollment;
-            
-        } catch (Exception e) {
-            throw new EnrollmentException("Failed to enroll student", e);
+    /**
+     * Register a listener for enroll, drop and grade changes
+     */
+    public void addEnrollmentListener(EnrollmentListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
         }
+        listeners.add(listener);
+    }
+
+    public void removeEnrollmentListener(EnrollmentListener listener) {
+        listeners.remove(listener);
     }
 
     /**
@@ -117,31 +287,196 @@ public class EnrollmentService {
 
     /**
      * Assign grade to enrollment
+     *
+     * @return the grade this one replaced, or null if the enrollment was
+     *         ungraded - pass it to Student.replaceGrade so a regrade is not counted twice
      */
-    public void assignGrade(String studentId, String courseCode, Grade grade) 
+    public Grade assignGrade(String studentId, String courseCode, Grade grade) 
             throws EnrollmentException {
         
-        if (grade == null) {
-            throw new EnrollmentException("Grade cannot be null");
+        var event = new GradeAssignedEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Grade previousGrade = null;
+        String outcome = "FAILED";
+        try {
+            if (grade == null) {
+                throw reject(RejectionReason.INVALID_GRADE, new EnrollmentException("Grade cannot be null"));
+            }
+
+            StudentRecords records = students.get(studentId);
+            if (records == null) {
+                throw reject(RejectionReason.ENROLLMENT_NOT_FOUND, new EnrollmentException("Enrollment not found"));
+            }
+            Enrollment oldEnrollment;
+            Enrollment newEnrollment;
+            synchronized (records) {
+                // Find enrollment
+                oldEnrollment = records.find(courseCode);
+                if (oldEnrollment == null) {
+                    throw reject(RejectionReason.ENROLLMENT_NOT_FOUND, new EnrollmentException("Enrollment not found"));
+                }
+
+                // Create new enrollment with grade (records are immutable)
+                newEnrollment = new Enrollment(
+                    studentId,
+                    courseCode,
+                    oldEnrollment.enrollmentDate(),
+                    grade
+                );
+
+                // Replace old enrollment
+                replaceRecord(records, oldEnrollment, newEnrollment);
+                recordGradeChange(records, oldEnrollment, newEnrollment);
+                previousGrade = oldEnrollment.finalGrade();
+            }
+            fireGraded(oldEnrollment, newEnrollment);
+            outcome = "GRADED";
+            return previousGrade;
+        } catch (EnrollmentException e) {
+            outcome = e.getMessage();
+            throw e;
+        } finally {
+            metrics.recordAssignGrade(System.nanoTime() - start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.studentId = studentId;
+                event.courseCode = courseCode;
+                event.grade = grade != null ? grade.toString() : null;
+                event.previousGrade = previousGrade != null ? previousGrade.toString() : null;
+                event.outcome = outcome;
+                event.commit();
+            }
         }
+    }
 
-        // Find enrollment
-        Enrollment oldEnrollment = findEnrollment(studentId, courseCode);
-        if (oldEnrollment == null) {
-            throw new EnrollmentException("Enrollment not found");
+    /**
+     * Bulk gradebook import for one course.
+     * scores[i] is the percentage score of the i-th student on the course roster
+     * (Course.getEnrolledStudents() order). All scores are converted and checked
+     * before anything changes, each record is found through the per-student
+     * index, and each graded student's GPA is recomputed once. Re-importing a
+     * corrected gradebook replaces each student's previous grade for the course
+     * rather than adding a second one. The course's seat lock is held
+     * throughout, so the roster cannot change under the import.
+     *
+     * @return number of grades applied
+     */
+    public int importGradebook(Course course, int[] scores) throws EnrollmentException {
+        if (course == null || scores == null) {
+            throw new EnrollmentException("Course and scores cannot be null");
         }
+        var event = new BulkOperationEvent();
+        event.begin();
+        int applied;
+        course.getSeatLock().lock();
+        try {
+            applied = applyGradebook(course, scores);
+        } finally {
+            course.getSeatLock().unlock();
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = "importGradebook";
+            event.target = course.getCourseCode();
+            event.items = applied;
+            event.commit();
+        }
+        return applied;
+    }
 
-        // Create new enrollment with grade (records are immutable)
-        Enrollment newEnrollment = new Enrollment(
-            studentId,
-            courseCode,
-            oldEnrollment.enrollmentDate(),
-            grade
-        );
+    private int applyGradebook(Course course, int[] scores) throws EnrollmentException {
+        List<Student> roster = course.getEnrolledStudents();
+        if (roster.size() != scores.length) {
+            throw new EnrollmentException(String.format(
+                "Gradebook has %d scores but %s has %d students",
+                scores.length, course.getCourseCode(), roster.size()));
+        }
 
-        // Replace old enrollment
-        enrollments.remove(oldEnrollment);
-        enrollments.add(newEnrollment);
+        // Convert every score first so a bad value leaves nothing half-applied
+        Grade[] grades = new Grade[scores.length];
+        for (int i = 0; i < scores.length; i++) {
+            if (scores[i] < 0 || scores[i] > 100) {
+                throw new InvalidGradeException("Invalid percentage " + scores[i]
+                    + " for student " + roster.get(i).getStudentId());
+            }
+            grades[i] = Grade.fromPercentage(scores[i]);
+        }
+
+        // Replace each roster member's record, found through the per-student index
+        String courseCode = course.getCourseCode();
+        Grade[] previous = new Grade[grades.length];
+        int applied = 0;
+        for (int i = 0; i < grades.length; i++) {
+            String studentId = roster.get(i).getStudentId();
+            StudentRecords records = students.get(studentId);
+            Enrollment old = null;
+            Enrollment graded = null;
+            if (records != null) {
+                synchronized (records) {
+                    old = records.find(courseCode);
+                    if (old != null) {
+                        graded = new Enrollment(studentId, courseCode, old.enrollmentDate(), grades[i]);
+                        replaceRecord(records, old, graded);
+                        recordGradeChange(records, old, graded);
+                    }
+                }
+            }
+            if (old == null) {
+                grades[i] = null;
+                continue;
+            }
+            fireGraded(old, graded);
+            previous[i] = old.finalGrade();
+            applied++;
+        }
+
+        // One GPA recomputation per affected student; a regrade swaps out the old grade
+        for (int i = 0; i < grades.length; i++) {
+            if (grades[i] != null) {
+                roster.get(i).replaceGrade(previous[i], grades[i]);
+            }
+        }
+
+        return applied;
+    }
+
+    /**
+     * Swap a record for its updated copy in the student's records and the
+     * course's map; caller holds the student's monitor
+     */
+    private void replaceRecord(StudentRecords records, Enrollment oldEnrollment, Enrollment newEnrollment) {
+        records.enrollments.set(records.enrollments.indexOf(oldEnrollment), newEnrollment);
+        Map<String, Enrollment> courseRecords = courseIndex.get(oldEnrollment.courseCode());
+        synchronized (courseRecords) {
+            courseRecords.put(newEnrollment.studentId(), newEnrollment);  // keeps its place in the order
+        }
+    }
+
+    /**
+     * Replace the old grade's credit contribution (if any) with the new one;
+     * caller holds the student's monitor
+     */
+    private void recordGradeChange(StudentRecords records, Enrollment oldEnrollment, Enrollment newEnrollment) {
+        Grade grade = newEnrollment.finalGrade();
+        CreditAccumulator totals = records.credits;
+        int credits = courseCredits.getOrDefault(oldEnrollment.courseCode(), 0);
+        int term = termOf(oldEnrollment);  // the graded copy keeps the enrollment date
+        if (oldEnrollment.isGraded()) {
+            totals.removeGrade(term, oldEnrollment.finalGrade(), credits);
+        }
+        totals.addGrade(term, grade, credits);
+        changed(records);
+    }
+
+    /**
+     * Tell listeners about a grade change; called after the student's
+     * monitor is released, since a listener may block (e.g. on a full ring)
+     */
+    private void fireGraded(Enrollment oldEnrollment, Enrollment newEnrollment) {
+        for (EnrollmentListener listener : listeners) {
+            listener.onGraded(oldEnrollment, newEnrollment);
+        }
     }
 
     /**
@@ -149,83 +484,349 @@ public class EnrollmentService {
      * Demonstrates defensive copying to prevent external modification
      */
     public List<Enrollment> getStudentEnrollments(String studentId) {
-        List<Enrollment> studentEnrollments = new ArrayList<>();
-        
-        for (Enrollment enrollment : enrollments) {
-            if (enrollment.studentId().equals(studentId)) {
-                studentEnrollments.add(enrollment);
-            }
+        // Served from the per-student records instead of scanning every record
+        StudentRecords records = students.get(studentId);
+        if (records == null) {
+            return new ArrayList<>();
         }
         
         // Return defensive copy
-        return new ArrayList<>(studentEnrollments);
+        synchronized (records) {
+            return new ArrayList<>(records.enrollments);
+        }
+    }
+
+    /**
+     * Get an immutable snapshot of a student's enrollments.
+     * The snapshot is copied once per version and then shared by every caller
+     * until the student's records change, so Transcript can wrap it without copying.
+     */
+    public List<Enrollment> getStudentSnapshot(String studentId) {
+        StudentRecords records = students.get(studentId);
+        if (records == null) {
+            return List.of();
+        }
+        synchronized (records) {
+            if (records.snapshot == null) {
+                records.snapshot = List.copyOf(records.enrollments);
+            }
+            return records.snapshot;
+        }
     }
 
     /**
      * Get course enrollments with defensive copying
      */
     public List<Enrollment> getCourseEnrollments(String courseCode) {
-        List<Enrollment> courseEnrollments = new ArrayList<>();
-        
-        for (Enrollment enrollment : enrollments) {
-            if (enrollment.courseCode().equals(courseCode)) {
-                courseEnrollments.add(enrollment);
-            }
+        Map<String, Enrollment> courseRecords = courseIndex.get(courseCode);
+        if (courseRecords == null) {
+            return new ArrayList<>();
         }
         
         // Defensive copy
-        return new ArrayList<>(courseEnrollments);
+        synchronized (courseRecords) {
+            return new ArrayList<>(courseRecords.values());
+        }
     }
 
     /**
-     * Get all enrollments with defensive copying
+     * Get all enrollments with defensive copying, grouped by course.
+     * Each course is copied atomically; the list as a whole is not a
+     * point-in-time snapshot while other threads are enrolling.
      */
     public List<Enrollment> getAllEnrollments() {
         // Return defensive copy to prevent external modification
-        return new ArrayList<>(enrollments);
+        List<Enrollment> all = new ArrayList<>(enrollmentCount.get());
+        for (Map<String, Enrollment> courseRecords : courseIndex.values()) {
+            synchronized (courseRecords) {
+                all.addAll(courseRecords.values());
+            }
+        }
+        return all;
     }
 
     /**
      * Check if student is enrolled in course
      */
     private boolean isStudentEnrolled(String studentId, String courseCode) {
-        return enrollments.stream()
-            .anyMatch(e -> e.studentId().equals(studentId) && 
-                          e.courseCode().equals(courseCode));
+        StudentRecords records = students.get(studentId);
+        if (records == null) {
+            return false;
+        }
+        synchronized (records) {
+            return records.find(courseCode) != null;
+        }
     }
 
     /**
-     * Find specific enrollment
+     * Drop course
      */
-    private Enrollment findEnrollment(String studentId, String courseCode) {
-        return enrollments.stream()
-            .filter(e -> e.studentId().equals(studentId) && 
-                        e.courseCode().equals(courseCode))
-            .findFirst()
-            .orElse(null);
+    public boolean dropCourse(String studentId, String courseCode, Course course) {
+        long start = System.nanoTime();
+        try {
+            return removeUngraded(studentId, courseCode);
+        } finally {
+            metrics.recordDrop(System.nanoTime() - start);
+        }
+    }
+
+    private boolean removeUngraded(String studentId, String courseCode) {
+        StudentRecords records = students.get(studentId);
+        if (records == null) {
+            metrics.recordRejection(RejectionReason.ENROLLMENT_NOT_FOUND);
+            return false;
+        }
+        Enrollment enrollment;
+        synchronized (records) {
+            enrollment = records.find(courseCode);
+            if (enrollment == null) {
+                metrics.recordRejection(RejectionReason.ENROLLMENT_NOT_FOUND);
+                return false;
+            }
+            if (enrollment.isGraded()) {
+                metrics.recordRejection(RejectionReason.ALREADY_GRADED);
+                return false;
+            }
+
+            records.enrollments.remove(enrollment);
+            Map<String, Enrollment> courseRecords = courseIndex.get(courseCode);
+            synchronized (courseRecords) {
+                courseRecords.remove(enrollment.studentId());
+            }
+            enrollmentCount.decrementAndGet();
+            records.credits.addAttempted(termOf(enrollment), -courseCredits.getOrDefault(courseCode, 0));
+            changed(records);
+        }
+
+        for (EnrollmentListener listener : listeners) {  // outside the monitor - listeners may block
+            listener.onDropped(enrollment);
+        }
+        // Note: This demonstrates that we need the actual course object
+        // to modify its enrollment count - call by value means we need
+        // the reference to modify the object's state
+        return true;
     }
 
     /**
-     * Drop course
+     * Get the version of a student's enrollment records.
+     * The value changes whenever the student enrolls, drops or is graded,
+     * so caches can compare it instead of re-reading the records.
      */
-    public boolean dropCourse(String studentId, String courseCode, Course course) {
-        Enrollment enrollment = findEnrollment(studentId, courseCode);
-        
-        if (enrollment != null && !enrollment.isGraded()) {
-            enrollments.remove(enrollment);
-            // Note: This demonstrates that we need the actual course object
-            // to modify its enrollment count - call by value means we need
-            // the reference to modify the object's state
-            return true;
+    public long getStudentVersion(String studentId) {
+        StudentRecords records = students.get(studentId);
+        if (records == null) {
+            return 0L;
         }
-        
-        return false;
+        synchronized (records) {
+            return records.version;
+        }
+    }
+
+    /**
+     * Get the version of all enrollment records - it changes whenever any
+     * student's version does, so a long-running job can tell whether the
+     * records it read are still current.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Rebuild a student's credit totals (overall and per term) from their
+     * enrollment records, replacing the running ones.
+     *
+     * @return true if the rebuilt totals differ from the ones they replaced
+     */
+    public boolean rebuildCreditTotals(String studentId) {
+        StudentRecords records = students.get(studentId);
+        if (records == null) {
+            return false;
+        }
+        synchronized (records) {
+            var rebuilt = new CreditAccumulator();
+            for (Enrollment enrollment : records.enrollments) {
+                int credits = courseCredits.getOrDefault(enrollment.courseCode(), 0);
+                rebuilt.addAttempted(termOf(enrollment), credits);
+                if (enrollment.isGraded()) {
+                    rebuilt.addGrade(termOf(enrollment), enrollment.finalGrade(), credits);
+                }
+            }
+            boolean differs = !rebuilt.toCreditTotals().equals(records.credits.toCreditTotals());
+            records.credits = rebuilt;
+            if (differs) {
+                changed(records);
+            }
+            return differs;
+        }
+    }
+
+    /**
+     * Get a student's credit totals in O(1)
+     * Totals are kept current by enrollStudent, assignGrade and dropCourse
+     */
+    public CreditTotals getCreditTotals(String studentId) {
+        StudentRecords records = students.get(studentId);
+        if (records == null) {
+            return CreditTotals.EMPTY;
+        }
+        synchronized (records) {
+            return records.credits.toCreditTotals();
+        }
+    }
+
+    /**
+     * Get the credits of every course that has been enrolled in (a copy)
+     */
+    public Map<String, Integer> getCourseCredits() {
+        return new HashMap<>(courseCredits);
+    }
+
+    /**
+     * Get a student's credit-weighted GPA in O(1)
+     * Quality points are updated as each grade is recorded or replaced
+     */
+    public double getWeightedGPA(String studentId) {
+        return getCreditTotals(studentId).weightedGPA();
+    }
+
+    /**
+     * Get a student's credit totals broken down by term, oldest term first
+     * Keys are semester names from DateUtil.getSemester, e.g. "Fall 2025"
+     */
+    public Map<String, CreditTotals> getTermCreditTotals(String studentId) {
+        StudentRecords records = students.get(studentId);
+        Map<String, CreditTotals> byTerm = new LinkedHashMap<>();
+        if (records != null) {
+            synchronized (records) {
+                records.credits.terms.forEach((term, termTotals) ->
+                    byTerm.put(DateUtil.getSemester(term), termTotals.toCreditTotals()));
+            }
+        }
+        return byTerm;
+    }
+
+    /**
+     * Degree check without scanning enrollments
+     */
+    public boolean hasEarnedCredits(String studentId, int requiredCredits) {
+        StudentRecords records = students.get(studentId);
+        if (records == null) {
+            return requiredCredits <= 0;
+        }
+        synchronized (records) {
+            return records.credits.earned >= requiredCredits;
+        }
+    }
+
+    /**
+     * Count a rejection by reason and hand the exception back to be thrown
+     */
+    private <E extends EnrollmentException> E reject(RejectionReason reason, E exception) {
+        metrics.recordRejection(reason);
+        return exception;
+    }
+
+    /**
+     * Mark a student's records changed; caller holds the student's monitor
+     */
+    private void changed(StudentRecords records) {
+        records.changed();
+        version.incrementAndGet();
+    }
+
+    private static int termOf(Enrollment enrollment) {
+        return DateUtil.getSemesterIndex(enrollment.enrollmentDate());
     }
 
     /**
      * Get enrollment count
      */
     public int getEnrollmentCount() {
-        return enrollments.size();
+        return enrollmentCount.get();
+    }
+
+    /**
+     * One student's records, their version and credit totals - the unit of
+     * locking for everything per-student. Guarded by its own monitor.
+     */
+    private static final class StudentRecords {
+        private final List<Enrollment> enrollments = new ArrayList<>(4);
+        private CreditAccumulator credits = new CreditAccumulator();
+        private long version;  // bumped on every change to the records
+        private List<Enrollment> snapshot;  // immutable copy, dropped on change
+
+        private Enrollment find(String courseCode) {
+            for (Enrollment enrollment : enrollments) {
+                if (enrollment.courseCode().equals(courseCode)) {
+                    return enrollment;
+                }
+            }
+            return null;
+        }
+
+        private void changed() {
+            version++;
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Mutable running totals for one student, plus the same totals per term
+     * (keyed by DateUtil.getSemesterIndex, so iteration is chronological).
+     * Quality points are kept in tenths so repeated add/remove stays exact.
+     */
+    private static final class CreditAccumulator {
+        private int attempted;
+        private int earned;
+        private int graded;
+        private long qualityPointTenths;
+        private final TreeMap<Integer, CreditAccumulator> terms;  // null inside a term entry
+
+        private CreditAccumulator() {
+            this.terms = new TreeMap<>();
+        }
+
+        private CreditAccumulator(TreeMap<Integer, CreditAccumulator> terms) {
+            this.terms = terms;
+        }
+
+        private void addAttempted(int term, int credits) {
+            attempted += credits;
+            CreditAccumulator termTotals = forTerm(term);
+            termTotals.attempted += credits;
+            if (termTotals.attempted == 0) {
+                terms.remove(term);  // last course of the term was dropped
+            }
+        }
+
+        private void addGrade(int term, Grade grade, int credits) {
+            apply(grade, credits);
+            forTerm(term).apply(grade, credits);
+        }
+
+        private void removeGrade(int term, Grade grade, int credits) {
+            apply(grade, -credits);
+            forTerm(term).apply(grade, -credits);
+        }
+
+        private CreditAccumulator forTerm(int term) {
+            return terms.computeIfAbsent(term, t -> new CreditAccumulator(null));
+        }
+
+        private void apply(Grade grade, int credits) {
+            graded += credits;
+            qualityPointTenths += tenths(grade) * credits;
+            if (grade.isPassing()) {
+                earned += credits;
+            }
+        }
+
+        private CreditTotals toCreditTotals() {
+            return new CreditTotals(attempted, earned, graded, qualityPointTenths / 10.0);
+        }
+
+        private static long tenths(Grade grade) {
+            return Math.round(grade.getGradePoint() * 10.0);
+        }
     }
-}
\ No newline at end of file
+}
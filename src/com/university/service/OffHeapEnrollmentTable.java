@@ -0,0 +1,415 @@
+package com.university.service;
+
+import com.university.model.Enrollment;
+import com.university.model.Grade;
+import com.university.model.PackedEnrollment;
+import com.university.util.KeyDictionary;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Off-heap enrollment table demonstrating:
+ * - Direct (off-heap) ByteBuffers with fixed-width rows
+ * - Open-addressing hash index stored off-heap
+ * - Allocation-free reads through primitive accessors and row cursors
+ *
+ * Rows and indexes live outside the Java heap, so heap usage and GC work
+ * do not grow with enrollment history; only the student/course
+ * dictionaries (one entry per distinct key) stay on-heap.
+ *
+ * Row layout (16 bytes):
+ *   long  packed enrollment (see PackedEnrollment)
+ *   int   next row of the same student (-1 = end of chain)
+ *   int   reserved
+ *
+ * Indexes:
+ *   pair index    (student, course) -> row, linear probing, off-heap
+ *   student heads student ordinal -> most recent row, off-heap
+ *
+ * close() frees every buffer immediately through the JDK's buffer cleaner
+ * (sun.misc.Unsafe.invokeCleaner, looked up reflectively); on a JVM without
+ * it the buffers are only dropped and freed at the next GC. Not thread-safe.
+ *
+ * Direct memory is capped by -XX:MaxDirectMemorySize, which defaults to the
+ * maximum heap size (-Xmx). A table needs roughly 16 MB per million rows
+ * (whole chunks) plus 16 bytes per index slot (27-53 bytes per row at the
+ * 0.6 load factor and power-of-two sizing); past the cap, allocation fails with an
+ * OutOfMemoryError naming the flag. Size the flag for large tables, e.g.
+ *   java -XX:MaxDirectMemorySize=2g ...
+ * BenchmarkRunner compares the table's lookups with EnrollmentService.
+ *
+ * OOP Features Demonstrated:
+ * - Encapsulation of raw memory layout
+ * - AutoCloseable resource
+ * - Method overloading (ordinal and String lookups)
+ */
+public class OffHeapEnrollmentTable implements AutoCloseable {
+
+    public static final int NO_ROW = -1;
+
+    private static final int ROW_BYTES = 16;
+    private static final int NEXT_OFFSET = 8;
+    private static final int CHUNK_SHIFT = 20;                 // 1M rows = 16 MB per chunk
+    private static final int CHUNK_ROWS = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_ROWS - 1;
+
+    // Pair index slot: long key (pairKey + 1, 0 = empty) + int row, padded to 16 bytes
+    private static final int SLOT_BYTES = 16;
+    private static final int MAX_INDEX_SLOTS = 1 << 26;        // 1 GB, under the 2 GB direct buffer limit
+    private static final double MAX_LOAD = 0.6;
+    private static final MethodHandle INVOKE_CLEANER = findCleaner();  // null if unavailable
+
+    private final KeyDictionary studentIds;
+    private final KeyDictionary courseCodes;
+    private final List<ByteBuffer> rowChunks;
+    private ByteBuffer pairIndex;
+    private int indexSlots;
+    private ByteBuffer studentHeads;
+    private int size;
+
+    public OffHeapEnrollmentTable() {
+        this(1024);
+    }
+
+    public OffHeapEnrollmentTable(int expectedRows) {
+        this.studentIds = new KeyDictionary();
+        this.courseCodes = new KeyDictionary();
+        this.rowChunks = new ArrayList<>();
+        this.indexSlots = tableSizeFor((int) Math.min(MAX_INDEX_SLOTS, expectedRows / MAX_LOAD + 1));
+        this.pairIndex = allocate((long) indexSlots * SLOT_BYTES);
+        this.studentHeads = allocateHeads(1024);
+    }
+
+    /**
+     * Append an enrollment; a (student, course) pair may only appear once
+     * @return the new row number
+     */
+    public int add(Enrollment enrollment) {
+        return add(enrollment.studentId(), enrollment.courseCode(),
+            enrollment.enrollmentDate(), enrollment.finalGrade());
+    }
+
+    /**
+     * Overloaded append from individual fields
+     */
+    public int add(String studentId, String courseCode, LocalDate enrollmentDate, Grade grade) {
+        ensureOpen();
+        int student = studentIds.intern(studentId);
+        int course = courseCodes.intern(courseCode);
+        if (find(student, course) != NO_ROW) {
+            throw new IllegalArgumentException(studentId + " is already enrolled in " + courseCode);
+        }
+
+        // Grow first: growIndex re-inserts rows 0..size-1, which must not include the new row yet
+        if (size + 1 > indexSlots * MAX_LOAD) {
+            growIndex();
+        }
+
+        long packed = PackedEnrollment.pack(student, course, enrollmentDate, grade);
+        int row = size;
+        ByteBuffer chunk = chunkFor(row);
+        int offset = (row & CHUNK_MASK) * ROW_BYTES;
+        chunk.putLong(offset, packed);
+        chunk.putInt(offset + NEXT_OFFSET, headFor(student));
+
+        setHead(student, row);
+        insertIntoIndex(PackedEnrollment.pairKey(packed), row);
+        size++;
+        return row;
+    }
+
+    // ---- allocation-free reads ----
+
+    public long getPacked(int row) {
+        checkRow(row);
+        return rowChunks.get(row >>> CHUNK_SHIFT).getLong((row & CHUNK_MASK) * ROW_BYTES);
+    }
+
+    public Grade getGrade(int row) {
+        return PackedEnrollment.grade(getPacked(row));
+    }
+
+    /**
+     * Look up a (student, course) pair by ordinals
+     * @return the row, or NO_ROW
+     */
+    public int find(int studentOrdinal, int courseOrdinal) {
+        ensureOpen();
+        long key = PackedEnrollment.pairKey(studentOrdinal, courseOrdinal) + 1;
+        int mask = indexSlots - 1;
+        for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+            long stored = pairIndex.getLong(slot * SLOT_BYTES);
+            if (stored == 0) {
+                return NO_ROW;
+            }
+            if (stored == key) {
+                return pairIndex.getInt(slot * SLOT_BYTES + Long.BYTES);
+            }
+        }
+    }
+
+    /**
+     * Overloaded lookup by student ID and course code
+     */
+    public int find(String studentId, String courseCode) {
+        int student = studentIds.lookup(studentId);
+        int course = courseCodes.lookup(courseCode);
+        if (student == KeyDictionary.NOT_FOUND || course == KeyDictionary.NOT_FOUND) {
+            return NO_ROW;
+        }
+        return find(student, course);
+    }
+
+    /**
+     * Cursor over a student's rows, newest first:
+     * for (int r = firstRow(s); r != NO_ROW; r = nextRow(r)) { ... }
+     */
+    public int firstRow(int studentOrdinal) {
+        ensureOpen();
+        return headFor(studentOrdinal);
+    }
+
+    public int nextRow(int row) {
+        checkRow(row);
+        return rowChunks.get(row >>> CHUNK_SHIFT).getInt((row & CHUNK_MASK) * ROW_BYTES + NEXT_OFFSET);
+    }
+
+    /**
+     * Number of graded enrollments of a student, computed by walking the
+     * student's row chain without allocating
+     */
+    public int countGraded(int studentOrdinal) {
+        int count = 0;
+        for (int row = firstRow(studentOrdinal); row != NO_ROW; row = nextRow(row)) {
+            if (PackedEnrollment.gradeCode(getPacked(row)) != PackedEnrollment.NO_GRADE) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // ---- updates and decoded views ----
+
+    /**
+     * Set or replace the grade of a row in place
+     */
+    public void setGrade(int row, Grade grade) {
+        checkRow(row);
+        ByteBuffer chunk = rowChunks.get(row >>> CHUNK_SHIFT);
+        int offset = (row & CHUNK_MASK) * ROW_BYTES;
+        chunk.putLong(offset, PackedEnrollment.withGrade(chunk.getLong(offset), grade));
+    }
+
+    /**
+     * Decoded Enrollment view of a row (allocates the record)
+     */
+    public Enrollment get(int row) {
+        long packed = getPacked(row);
+        return new Enrollment(
+            studentIds.keyOf(PackedEnrollment.studentOrdinal(packed)),
+            courseCodes.keyOf(PackedEnrollment.courseOrdinal(packed)),
+            LocalDate.ofEpochDay(PackedEnrollment.epochDay(packed)),
+            PackedEnrollment.grade(packed)
+        );
+    }
+
+    /**
+     * Decoded views of one student's enrollments
+     */
+    public List<Enrollment> getStudentEnrollments(String studentId) {
+        List<Enrollment> result = new ArrayList<>();
+        int student = studentIds.lookup(studentId);
+        if (student != KeyDictionary.NOT_FOUND) {
+            for (int row = firstRow(student); row != NO_ROW; row = nextRow(row)) {
+                result.add(get(row));
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public KeyDictionary getStudentIds() {
+        return studentIds;
+    }
+
+    public KeyDictionary getCourseCodes() {
+        return courseCodes;
+    }
+
+    /**
+     * Bytes reserved outside the Java heap
+     */
+    public long getOffHeapBytes() {
+        long bytes = (long) rowChunks.size() * CHUNK_ROWS * ROW_BYTES;
+        bytes += pairIndex != null ? pairIndex.capacity() : 0;
+        bytes += studentHeads != null ? studentHeads.capacity() : 0;
+        return bytes;
+    }
+
+    /**
+     * Free all off-heap buffers now; the table cannot be used afterwards
+     */
+    @Override
+    public void close() {
+        if (pairIndex == null) {
+            return;  // already closed
+        }
+        for (ByteBuffer chunk : rowChunks) {
+            free(chunk);
+        }
+        rowChunks.clear();
+        free(pairIndex);
+        free(studentHeads);
+        pairIndex = null;
+        studentHeads = null;
+        size = 0;
+    }
+
+    // ---- internals ----
+
+    private ByteBuffer chunkFor(int row) {
+        int chunkIndex = row >>> CHUNK_SHIFT;
+        if (chunkIndex == rowChunks.size()) {
+            rowChunks.add(allocate((long) CHUNK_ROWS * ROW_BYTES));
+        }
+        return rowChunks.get(chunkIndex);
+    }
+
+    private int headFor(int studentOrdinal) {
+        if (studentOrdinal < 0 || (long) studentOrdinal * Integer.BYTES >= studentHeads.capacity()) {
+            return NO_ROW;
+        }
+        return studentHeads.getInt(studentOrdinal * Integer.BYTES);
+    }
+
+    private void setHead(int studentOrdinal, int row) {
+        long needed = ((long) studentOrdinal + 1) * Integer.BYTES;
+        if (needed > studentHeads.capacity()) {
+            int slots = studentHeads.capacity() / Integer.BYTES;
+            while ((long) slots * Integer.BYTES < needed) {
+                slots *= 2;
+            }
+            ByteBuffer grown = allocateHeads(slots);
+            for (int i = 0; i < studentHeads.capacity(); i += Integer.BYTES) {
+                grown.putInt(i, studentHeads.getInt(i));
+            }
+            free(studentHeads);
+            studentHeads = grown;
+        }
+        studentHeads.putInt(studentOrdinal * Integer.BYTES, row);
+    }
+
+    private void insertIntoIndex(long pairKey, int row) {
+        long key = pairKey + 1;
+        int mask = indexSlots - 1;
+        int slot = mix(key) & mask;
+        while (pairIndex.getLong(slot * SLOT_BYTES) != 0) {
+            slot = (slot + 1) & mask;
+        }
+        pairIndex.putLong(slot * SLOT_BYTES, key);
+        pairIndex.putInt(slot * SLOT_BYTES + Long.BYTES, row);
+    }
+
+    private void growIndex() {
+        if (indexSlots >= MAX_INDEX_SLOTS) {
+            throw new IllegalStateException("Pair index is full (" + MAX_INDEX_SLOTS + " slots)");
+        }
+        indexSlots *= 2;
+        free(pairIndex);
+        pairIndex = allocate((long) indexSlots * SLOT_BYTES);
+        for (int row = 0; row < size; row++) {
+            insertIntoIndex(PackedEnrollment.pairKey(getPacked(row)), row);
+        }
+    }
+
+    private void ensureOpen() {
+        if (pairIndex == null) {
+            throw new IllegalStateException("Table is closed");
+        }
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+    }
+
+    private static ByteBuffer allocateHeads(int slots) {
+        ByteBuffer heads = allocate((long) slots * Integer.BYTES);
+        for (int i = 0; i < heads.capacity(); i += Integer.BYTES) {
+            heads.putInt(i, NO_ROW);
+        }
+        return heads;
+    }
+
+    private static ByteBuffer allocate(long bytes) {
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Buffer too large: " + bytes + " bytes");
+        }
+        // Direct buffers are zero-filled and live outside the Java heap
+        try {
+            return ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+        } catch (OutOfMemoryError e) {
+            var error = new OutOfMemoryError("Cannot reserve " + bytes
+                + " bytes of direct memory; raise -XX:MaxDirectMemorySize (defaults to -Xmx)");
+            error.initCause(e);
+            throw error;
+        }
+    }
+
+    /**
+     * Release a direct buffer's memory now rather than at the next GC
+     */
+    private static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || buffer == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (Throwable t) {
+            // leave it to the GC
+        }
+    }
+
+    private static MethodHandle findCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;  // not available on this JVM
+        }
+    }
+
+    private static int tableSizeFor(int n) {
+        int size = 16;
+        while (size < n) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    /**
+     * Spread key bits before masking (64-bit finalizer from MurmurHash3)
+     */
+    private static int mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
@@ -0,0 +1,277 @@
+package com.university.service;
+
+import com.university.model.Enrollment;
+import com.university.model.Grade;
+import com.university.model.PackedEnrollment;
+import com.university.util.KeyDictionary;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact enrollment store demonstrating dictionary encoding:
+ * - Student IDs and course codes are interned to dense int ordinals
+ * - Each enrollment is one long in a growable long[] (see PackedEnrollment)
+ * - Lookups compare ints instead of calling String.equals
+ *
+ * An Enrollment record costs roughly 80+ bytes (record, two String
+ * references, LocalDate); a packed row costs 8 bytes plus the shared
+ * dictionary entries. Enrollment records are produced on demand as a
+ * decoded view. Not thread-safe.
+ *
+ * Indexes, all primitive arrays (about 24 more bytes per row at most):
+ *   pair index     (student, course) -> row, linear probing on the pair key
+ *   student chains student ordinal -> newest row, each row -> previous row
+ *   course counts  course ordinal -> number of rows
+ * so find is O(1), a student's rows cost O(their rows) and a course count
+ * is one array read. BenchmarkRunner compares them with EnrollmentService.
+ *
+ * OOP Features Demonstrated:
+ * - Composition (two KeyDictionary instances)
+ * - Arrays
+ * - Method overloading
+ */
+public class PackedEnrollmentTable {
+
+    private static final int NO_ROW = -1;
+    private static final double MAX_LOAD = 0.6;
+
+    private final KeyDictionary studentIds;
+    private final KeyDictionary courseCodes;
+    private long[] rows;
+    private int[] nextForStudent;   // row -> previous row of the same student, NO_ROW at the end
+    private int size;
+    private long[] pairKeys;        // pairKey + 1, 0 = empty slot
+    private int[] pairRows;
+    private int[] studentHeads;     // student ordinal -> newest row
+    private int[] courseCounts;     // course ordinal -> rows
+
+    public PackedEnrollmentTable() {
+        this(new KeyDictionary(), new KeyDictionary(), 16);
+    }
+
+    /**
+     * Constructor allowing dictionaries to be shared between tables
+     */
+    public PackedEnrollmentTable(KeyDictionary studentIds, KeyDictionary courseCodes, int initialCapacity) {
+        this.studentIds = studentIds;
+        this.courseCodes = courseCodes;
+        this.rows = new long[Math.max(16, initialCapacity)];
+        this.nextForStudent = new int[rows.length];
+        int slots = 16;
+        while (slots < rows.length / MAX_LOAD + 1) {
+            slots <<= 1;
+        }
+        this.pairKeys = new long[slots];
+        this.pairRows = new int[slots];
+        this.studentHeads = new int[0];
+        this.courseCounts = new int[0];
+    }
+
+    /**
+     * Build a packed table from existing records, e.g.
+     * PackedEnrollmentTable.of(enrollmentService.getAllEnrollments())
+     */
+    public static PackedEnrollmentTable of(List<Enrollment> enrollments) {
+        var table = new PackedEnrollmentTable(new KeyDictionary(), new KeyDictionary(), enrollments.size());
+        for (Enrollment enrollment : enrollments) {
+            table.add(enrollment);
+        }
+        return table;
+    }
+
+    /**
+     * Append an enrollment and return its row number; a (student, course)
+     * pair may only appear once
+     */
+    public int add(Enrollment enrollment) {
+        return add(enrollment.studentId(), enrollment.courseCode(),
+            enrollment.enrollmentDate(), enrollment.finalGrade());
+    }
+
+    /**
+     * Overloaded append from individual fields
+     */
+    public int add(String studentId, String courseCode, LocalDate enrollmentDate, Grade grade) {
+        int student = studentIds.intern(studentId);
+        int course = courseCodes.intern(courseCode);
+        long packed = PackedEnrollment.pack(student, course, enrollmentDate, grade);
+        if (findPair(PackedEnrollment.pairKey(packed)) != NO_ROW) {
+            throw new IllegalArgumentException(studentId + " is already enrolled in " + courseCode);
+        }
+        if (size == rows.length) {
+            rows = Arrays.copyOf(rows, size * 2);
+            nextForStudent = Arrays.copyOf(nextForStudent, size * 2);
+        }
+        // Grow first: rehashing walks rows 0..size-1, which must not include the new row yet
+        if (size + 1 > pairKeys.length * MAX_LOAD) {
+            growPairIndex();
+        }
+
+        int row = size;
+        rows[row] = packed;
+        if (student >= studentHeads.length) {
+            studentHeads = grow(studentHeads, student);
+        }
+        nextForStudent[row] = studentHeads[student];
+        studentHeads[student] = row;
+        if (course >= courseCounts.length) {
+            courseCounts = Arrays.copyOf(courseCounts, Math.max(course + 1, courseCounts.length * 2));
+        }
+        courseCounts[course]++;
+        insertPair(PackedEnrollment.pairKey(packed), row);
+        size++;
+        return row;
+    }
+
+    /**
+     * Raw packed value of a row
+     */
+    public long getPacked(int row) {
+        checkRow(row);
+        return rows[row];
+    }
+
+    /**
+     * Decoded Enrollment view of a row
+     */
+    public Enrollment get(int row) {
+        long packed = getPacked(row);
+        return new Enrollment(
+            studentIds.keyOf(PackedEnrollment.studentOrdinal(packed)),
+            courseCodes.keyOf(PackedEnrollment.courseOrdinal(packed)),
+            LocalDate.ofEpochDay(PackedEnrollment.epochDay(packed)),
+            PackedEnrollment.grade(packed)
+        );
+    }
+
+    /**
+     * Find the row of a (student, course) pair
+     * @return row number, or -1 if not enrolled
+     */
+    public int find(String studentId, String courseCode) {
+        int student = studentIds.lookup(studentId);
+        int course = courseCodes.lookup(courseCode);
+        if (student == KeyDictionary.NOT_FOUND || course == KeyDictionary.NOT_FOUND) {
+            return -1;
+        }
+        return findPair(PackedEnrollment.pairKey(student, course));
+    }
+
+    /**
+     * Set or replace the grade of a row in place
+     */
+    public void setGrade(int row, Grade grade) {
+        checkRow(row);
+        rows[row] = PackedEnrollment.withGrade(rows[row], grade);
+    }
+
+    /**
+     * Row numbers of one student's enrollments, oldest first
+     */
+    public int[] rowsForStudent(String studentId) {
+        int student = studentIds.lookup(studentId);
+        if (student == KeyDictionary.NOT_FOUND || student >= studentHeads.length) {
+            return new int[0];
+        }
+        int count = 0;
+        for (int row = studentHeads[student]; row != NO_ROW; row = nextForStudent[row]) {
+            count++;
+        }
+        int[] matches = new int[count];
+        for (int row = studentHeads[student]; row != NO_ROW; row = nextForStudent[row]) {
+            matches[--count] = row;  // the chain is newest first
+        }
+        return matches;
+    }
+
+    /**
+     * Decoded views of one student's enrollments
+     */
+    public List<Enrollment> getStudentEnrollments(String studentId) {
+        List<Enrollment> result = new ArrayList<>();
+        for (int row : rowsForStudent(studentId)) {
+            result.add(get(row));
+        }
+        return result;
+    }
+
+    /**
+     * Number of enrollments of a course, counted with int comparisons only
+     */
+    public int countCourseEnrollments(String courseCode) {
+        int course = courseCodes.lookup(courseCode);
+        if (course == KeyDictionary.NOT_FOUND || course >= courseCounts.length) {
+            return 0;
+        }
+        return courseCounts[course];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public KeyDictionary getStudentIds() {
+        return studentIds;
+    }
+
+    public KeyDictionary getCourseCodes() {
+        return courseCodes;
+    }
+
+    private int findPair(long pairKey) {
+        long key = pairKey + 1;
+        int mask = pairKeys.length - 1;
+        for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+            if (pairKeys[slot] == 0) {
+                return NO_ROW;
+            }
+            if (pairKeys[slot] == key) {  // single long comparison
+                return pairRows[slot];
+            }
+        }
+    }
+
+    private void insertPair(long pairKey, int row) {
+        long key = pairKey + 1;
+        int mask = pairKeys.length - 1;
+        int slot = mix(key) & mask;
+        while (pairKeys[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        pairKeys[slot] = key;
+        pairRows[slot] = row;
+    }
+
+    private void growPairIndex() {
+        pairKeys = new long[pairKeys.length * 2];
+        pairRows = new int[pairKeys.length];
+        for (int row = 0; row < size; row++) {
+            insertPair(PackedEnrollment.pairKey(rows[row]), row);
+        }
+    }
+
+    private static int[] grow(int[] heads, int ordinal) {
+        int[] grown = Arrays.copyOf(heads, Math.max(ordinal + 1, Math.max(16, heads.length * 2)));
+        Arrays.fill(grown, heads.length, grown.length, NO_ROW);
+        return grown;
+    }
+
+    /**
+     * Spread key bits before masking (64-bit finalizer from MurmurHash3)
+     */
+    private static int mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.university.service;
+
+import com.university.exception.CourseFullException;
+import com.university.exception.EnrollmentException;
+import com.university.model.Course;
+import com.university.model.CreditTotals;
+import com.university.model.Enrollment;
+import com.university.model.Grade;
+import com.university.model.Student;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Enrollment store partitioned by course code across independent shards
+ *
+ * Each shard is a full EnrollmentService with its own records, indexes,
+ * credit totals, locks and course actors. Every operation that names a
+ * course (enroll, grade, drop, gradebook import, course queries) touches
+ * exactly one shard, so operations on courses in different shards do not
+ * contend on the store and throughput grows with the shard count. They can
+ * still meet on a shared Student: gradebook imports for two of a student's
+ * courses both update that Student's grades, which serialize on the
+ * Student's monitor.
+ *
+ * A student's records are spread over the shards of their courses, so
+ * per-student queries scatter to every shard in parallel and gather the
+ * results; per-student totals are summed across shards.
+ *
+ * OOP Features Demonstrated:
+ * - Composition over inheritance (array of EnrollmentService)
+ * - Method overloading (constructors)
+ * - Parallel streams (scatter-gather)
+ */
+public class ShardedEnrollmentService {
+
+    private final EnrollmentService[] shards;
+
+    /**
+     * One shard per available processor
+     */
+    public ShardedEnrollmentService() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ShardedEnrollmentService(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1: " + shardCount);
+        }
+        this.shards = new EnrollmentService[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new EnrollmentService();
+        }
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /**
+     * Shard index owning a course code
+     */
+    public int shardIndex(String courseCode) {
+        int h = courseCode.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), shards.length);  // spread high bits like HashMap
+    }
+
+    public EnrollmentService shardFor(String courseCode) {
+        return shards[shardIndex(courseCode)];
+    }
+
+    private EnrollmentService shardFor(Course course) throws EnrollmentException {
+        if (course == null) {
+            throw new EnrollmentException("Course cannot be null");
+        }
+        return shardFor(course.getCourseCode());
+    }
+
+    // ---- course-local operations: exactly one shard ----
+
+    public Enrollment enrollStudent(Student student, Course course)
+            throws EnrollmentException, CourseFullException {
+        return shardFor(course).enrollStudent(student, course);
+    }
+
+    public CompletableFuture<Enrollment> enrollStudentAsync(Student student, Course course) {
+        if (course == null) {
+            return CompletableFuture.failedFuture(new EnrollmentException("Course cannot be null"));
+        }
+        return shardFor(course.getCourseCode()).enrollStudentAsync(student, course);
+    }
+
+    public void loadEnrollment(Student student, Course course, Enrollment enrollment)
+            throws EnrollmentException {
+        shardFor(course).loadEnrollment(student, course, enrollment);
+    }
+
+    public Grade assignGrade(String studentId, String courseCode, Grade grade)
+            throws EnrollmentException {
+        if (courseCode == null) {
+            throw new EnrollmentException("Enrollment not found");
+        }
+        return shardFor(courseCode).assignGrade(studentId, courseCode, grade);
+    }
+
+    public int importGradebook(Course course, int[] scores) throws EnrollmentException {
+        return shardFor(course).importGradebook(course, scores);
+    }
+
+    public boolean dropCourse(String studentId, String courseCode, Course course) {
+        return courseCode != null && shardFor(courseCode).dropCourse(studentId, courseCode, course);
+    }
+
+    public List<Enrollment> getCourseEnrollments(String courseCode) {
+        return shardFor(courseCode).getCourseEnrollments(courseCode);
+    }
+
+    // ---- per-student operations: scatter-gather over every shard ----
+
+    /**
+     * A student's records from every shard, gathered in shard order
+     */
+    public List<Enrollment> getStudentEnrollments(String studentId) {
+        return new ArrayList<>(Arrays.stream(shards)
+            .parallel()
+            .flatMap(shard -> shard.getStudentEnrollments(studentId).stream())
+            .toList());
+    }
+
+    public CreditTotals getCreditTotals(String studentId) {
+        return Arrays.stream(shards)
+            .parallel()
+            .map(shard -> shard.getCreditTotals(studentId))
+            .reduce(CreditTotals.EMPTY, CreditTotals::plus);
+    }
+
+    public double getWeightedGPA(String studentId) {
+        return getCreditTotals(studentId).weightedGPA();
+    }
+
+    public boolean hasEarnedCredits(String studentId, int requiredCredits) {
+        return getCreditTotals(studentId).meetsCreditRequirement(requiredCredits);
+    }
+
+    /**
+     * Sum of the per-shard versions - changes whenever any shard changes
+     * the student's records, which is all a cache needs
+     */
+    public long getStudentVersion(String studentId) {
+        long version = 0;
+        for (EnrollmentService shard : shards) {
+            version += shard.getStudentVersion(studentId);
+        }
+        return version;
+    }
+
+    // ---- whole-store operations ----
+
+    public List<Enrollment> getAllEnrollments() {
+        List<Enrollment> all = new ArrayList<>(getEnrollmentCount());
+        for (EnrollmentService shard : shards) {
+            all.addAll(shard.getAllEnrollments());
+        }
+        return all;
+    }
+
+    public int getEnrollmentCount() {
+        int count = 0;
+        for (EnrollmentService shard : shards) {
+            count += shard.getEnrollmentCount();
+        }
+        return count;
+    }
+
+    /**
+     * Per-shard record counts, e.g. to check the partitioning is balanced
+     */
+    public int[] getShardSizes() {
+        int[] sizes = new int[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            sizes[i] = shards[i].getEnrollmentCount();
+        }
+        return sizes;
+    }
+
+    public void addEnrollmentListener(EnrollmentListener listener) {
+        for (EnrollmentService shard : shards) {
+            shard.addEnrollmentListener(listener);
+        }
+    }
+
+    public void removeEnrollmentListener(EnrollmentListener listener) {
+        for (EnrollmentService shard : shards) {
+            shard.removeEnrollmentListener(listener);
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.university.service;
 
 import com.university.model.Student;
+import com.university.model.DepartmentReport;
 import com.university.model.DepartmentType;
 import com.university.model.Grade;
+import com.university.model.StudentObserver;
+import com.university.metrics.Metrics;
+import com.university.metrics.StudentQueryMetrics;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -26,9 +33,14 @@ import java.util.stream.Collectors;
 public class StudentService {
     
     private final List<Student> students;  // final - reference cannot change
+    private final Map<String, Student> studentsById;  // student ID -> student, for O(1) lookups
+    private final StudentQueryMetrics metrics = Metrics.STUDENT_QUERIES;
+    private final DepartmentReportEngine reportEngine = new DepartmentReportEngine();
+    private final List<StudentObserver> observers = new CopyOnWriteArrayList<>();
 
     public StudentService() {
         this.students = new ArrayList<>();
+        this.studentsById = new HashMap<>();
     }
 
     /**
@@ -37,9 +49,36 @@ public class StudentService {
     public void addStudent(Student student) {
         if (student != null) {
             students.add(student);
+            studentsById.put(student.getStudentId(), student);
+            for (StudentObserver observer : observers) {
+                student.addObserver(observer);
+                observer.onStudentAdded(student);
+            }
+        }
+    }
+
+    /**
+     * Register an observer on every current and future student of this service
+     * Existing students are replayed through onStudentAdded
+     */
+    public void addStudentObserver(StudentObserver observer) {
+        if (observer == null) {
+            throw new IllegalArgumentException("Observer cannot be null");
+        }
+        observers.add(observer);
+        for (Student student : students) {
+            student.addObserver(observer);
+            observer.onStudentAdded(student);
         }
     }
 
+    /**
+     * Find a student by ID in O(1); null if unknown
+     */
+    public Student findById(String studentId) {
+        return studentsById.get(studentId);
+    }
+
     /**
      * Get all students with defensive copying
      */
@@ -52,6 +91,7 @@ public class StudentService {
      * Demonstrates lambdas and Predicate functional interface
      */
     public List<Student> filterStudents(Predicate<Student> predicate) {
+        long start = System.nanoTime();
         List<Student> result = new ArrayList<>();
         
         for (Student student : students) {
@@ -60,6 +100,7 @@ public class StudentService {
             }
         }
         
+        metrics.recordQuery(System.nanoTime() - start, students.size());
         return result;
     }
 
@@ -114,9 +155,12 @@ public class StudentService {
      * Count students matching predicate
      */
     public long countStudents(Predicate<Student> predicate) {
-        return students.stream()
+        long start = System.nanoTime();
+        long count = students.stream()
             .filter(predicate)  // Predicate in stream
             .count();
+        metrics.recordQuery(System.nanoTime() - start, students.size());
+        return count;
     }
 
     /**
@@ -140,12 +184,15 @@ public class StudentService {
      */
     public List<Student> findTopPerformers(int topN) {
         final double threshold = 3.5;  // final variable used in lambda
+        long start = System.nanoTime();
         
-        return students.stream()
+        List<Student> top = students.stream()
             .filter(s -> s.getGPA() >= threshold)  // Using final variable
             .sorted((s1, s2) -> Double.compare(s2.getGPA(), s1.getGPA()))  // Lambda comparator
             .limit(topN)
             .collect(Collectors.toList());
+        metrics.recordQuery(System.nanoTime() - start, students.size());
+        return top;
     }
 
     /**
@@ -206,13 +253,27 @@ public class StudentService {
         return students.size();
     }
 
+    /**
+     * Per-department counts, GPA spread and standing distribution in one pass
+     * Honor roll and average GPA totals are available on the returned report
+     */
+    public DepartmentReport generateDepartmentReport() {
+        long start = System.nanoTime();
+        DepartmentReport report = reportEngine.generate(students);
+        metrics.recordQuery(System.nanoTime() - start, students.size());
+        return report;
+    }
+
     /**
      * Calculate average GPA using streams and method reference
      */
     public double calculateAverageGPA() {
-        return students.stream()
+        long start = System.nanoTime();
+        double average = students.stream()
             .mapToDouble(Student::getGPA)  // Method reference
             .average()
             .orElse(0.0);
+        metrics.recordQuery(System.nanoTime() - start, students.size());
+        return average;
     }
 }
\ No newline at end of file
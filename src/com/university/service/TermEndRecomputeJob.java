@@ -0,0 +1,454 @@
+package com.university.service;
+
+import com.university.metrics.BulkOperationEvent;
+import com.university.model.AcademicStanding;
+import com.university.model.CreditTotals;
+import com.university.model.Enrollment;
+import com.university.model.Grade;
+import com.university.model.GradeStats;
+import com.university.model.Student;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Term-end recomputation job
+ *
+ * Recomputes every student's GPA, academic standing and credit totals from
+ * the authoritative enrollment records. All records are grouped by student
+ * in one pass; the students, sorted by ID, are then cut into fixed-size
+ * partitions that run in parallel on a ForkJoinPool.
+ *
+ * Each finished partition is appended to a checkpoint file and flushed, so
+ * a run that dies part-way can be started again with the same file and only
+ * the unfinished partitions are redone. The checkpoint header records the
+ * population (student count, partition size and an ID fingerprint) and the
+ * enrollment version the run read; if either no longer matches - students
+ * were added, or anyone enrolled, dropped or was graded since - the old
+ * checkpoint is discarded. The file is deleted once a run completes.
+ *
+ * The result lists every student whose recomputed standing differs from the
+ * standing they currently show, counts students whose maintained credit
+ * totals disagree with the recomputed ones, and names every student whose
+ * GPA or credit totals are out of date. A run only reports; apply(result)
+ * then writes the recomputed grades (and so GPA and standing) and credit
+ * totals back for those students.
+ *
+ * Checkpoint lines are tab-separated:
+ *   TERM-END  students  partitionSize  fingerprint  enrollmentVersion
+ *   CHANGE    partition  studentId  previousGPA  recomputedGPA  previous  recomputed
+ *   UPDATE    partition  studentId
+ *   DONE      partition  students  creditMismatches
+ *
+ * OOP Features Demonstrated:
+ * - Fork/Join framework (RecursiveAction)
+ * - Records (nested result types)
+ * - Private static nested classes
+ * - File I/O with NIO Files
+ */
+public class TermEndRecomputeJob {
+
+    static final int DEFAULT_PARTITION_SIZE = 4_096;
+
+    private static final String HEADER = "TERM-END";
+    private static final String CHANGE = "CHANGE";
+    private static final String UPDATE = "UPDATE";
+    private static final String DONE = "DONE";
+
+    private final StudentService studentService;
+    private final EnrollmentService enrollmentService;
+    private final ForkJoinPool pool;
+    private final int partitionSize;
+
+    /**
+     * A student whose standing changes at term end
+     */
+    public record StandingChange(String studentId, double previousGPA, double recomputedGPA,
+                                 AcademicStanding previous, AcademicStanding recomputed) {
+    }
+
+    /**
+     * Outcome of a run; changes and updates are sorted by student ID.
+     * updates names every student whose GPA or credit totals are out of date,
+     * and enrollmentVersion is the version of the records the run read.
+     */
+    public record Result(int students, int partitions, int resumedPartitions, int creditMismatches,
+                         List<StandingChange> changes, List<String> updates, long enrollmentVersion,
+                         long elapsedNanos) {
+
+        public Result {
+            changes = List.copyOf(changes);
+            updates = List.copyOf(updates);
+        }
+
+        /**
+         * Write the standings diff, one student per line
+         */
+        public void writeDiff(Writer out) throws IOException {
+            for (StandingChange change : changes) {
+                out.write(String.format("%-10s  %.2f -> %.2f  %s -> %s%n",
+                    change.studentId(), change.previousGPA(), change.recomputedGPA(),
+                    change.previous().getLabel(), change.recomputed().getLabel()));
+            }
+        }
+    }
+
+    public TermEndRecomputeJob(StudentService studentService, EnrollmentService enrollmentService) {
+        this(studentService, enrollmentService, ForkJoinPool.commonPool(), DEFAULT_PARTITION_SIZE);
+    }
+
+    public TermEndRecomputeJob(StudentService studentService, EnrollmentService enrollmentService,
+                               ForkJoinPool pool, int partitionSize) {
+        if (studentService == null || enrollmentService == null || pool == null) {
+            throw new IllegalArgumentException("Services and pool cannot be null");
+        }
+        if (partitionSize < 1) {
+            throw new IllegalArgumentException("Partition size must be positive");
+        }
+        this.studentService = studentService;
+        this.enrollmentService = enrollmentService;
+        this.pool = pool;
+        this.partitionSize = partitionSize;
+    }
+
+    /**
+     * Run the job, resuming from the checkpoint file if it holds a matching partial run
+     */
+    public Result run(Path checkpointFile) throws IOException {
+        var event = new BulkOperationEvent();  // JFR
+        event.begin();
+        long start = System.nanoTime();
+
+        long version = enrollmentService.getVersion();  // before the read, so a change during it is caught
+        Student[] students = studentService.getAllStudents().toArray(new Student[0]);
+        Arrays.sort(students, Comparator.comparing(Student::getStudentId));
+        int partitions = (students.length + partitionSize - 1) / partitionSize;
+
+        // One pass over every record, grouped by student
+        Map<String, List<Enrollment>> byStudent = new HashMap<>(students.length * 4 / 3 + 1);
+        for (Enrollment enrollment : enrollmentService.getAllEnrollments()) {
+            byStudent.computeIfAbsent(enrollment.studentId(), id -> new ArrayList<>(4)).add(enrollment);
+        }
+        Map<String, Integer> courseCredits = enrollmentService.getCourseCredits();
+
+        Checkpoint checkpoint = Checkpoint.open(checkpointFile,
+            header(students.length, partitionSize, fingerprint(students), version));
+        int resumed = checkpoint.completed.size();
+        try {
+            int[] pending = new int[partitions - resumed];
+            for (int p = 0, n = 0; p < partitions; p++) {
+                if (!checkpoint.completed.containsKey(p)) {
+                    pending[n++] = p;
+                }
+            }
+            var context = new RunContext(students, byStudent, courseCredits, checkpoint);
+            if (pending.length > 0) {
+                pool.invoke(new PartitionTask(this, context, pending, 0, pending.length));
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();  // checkpoint write failed inside a worker
+        } finally {
+            checkpoint.close();
+        }
+
+        List<StandingChange> changes = new ArrayList<>();
+        List<String> updates = new ArrayList<>();
+        int mismatches = 0;
+        for (PartitionResult result : checkpoint.completed.values()) {  // partition order = ID order
+            changes.addAll(result.changes());
+            updates.addAll(result.updates());
+            mismatches += result.creditMismatches();
+        }
+        Files.deleteIfExists(checkpointFile);  // complete - nothing left to resume
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = "termEndRecompute";
+            event.target = "students";
+            event.items = students.length;
+            event.commit();
+        }
+        return new Result(students.length, partitions, resumed, mismatches, changes, updates, version,
+            System.nanoTime() - start);
+    }
+
+    /**
+     * Write a run's recomputed values back: each student named in
+     * result.updates() gets their grades replaced by the graded enrollment
+     * records (so GPA and standing follow) and their credit totals rebuilt.
+     * Refuses a result whose records have changed since the run - run again.
+     * Student grades are kept by the callers that grade, so run this while
+     * grading is paused.
+     *
+     * @return number of students updated
+     */
+    public int apply(Result result) {
+        if (result.enrollmentVersion() != enrollmentService.getVersion()) {
+            throw new IllegalStateException("Enrollment records changed since the run");
+        }
+        var event = new BulkOperationEvent();
+        event.begin();
+        int applied = 0;
+        for (String studentId : result.updates()) {
+            Student student = studentService.findById(studentId);
+            if (student == null) {
+                continue;  // removed since the run
+            }
+            List<Grade> grades = new ArrayList<>();
+            for (Enrollment enrollment : enrollmentService.getStudentEnrollments(studentId)) {
+                if (enrollment.isGraded()) {
+                    grades.add(enrollment.finalGrade());
+                }
+            }
+            student.setGrades(grades);
+            enrollmentService.rebuildCreditTotals(studentId);
+            applied++;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = "termEndApply";
+            event.target = "students";
+            event.items = applied;
+            event.commit();
+        }
+        return applied;
+    }
+
+    /**
+     * Recompute one partition of the sorted students
+     */
+    private PartitionResult recompute(RunContext context, int partition) {
+        int from = partition * partitionSize;
+        int to = Math.min(from + partitionSize, context.students.length);
+        List<StandingChange> changes = new ArrayList<>();
+        List<String> updates = new ArrayList<>();
+        int mismatches = 0;
+
+        for (int i = from; i < to; i++) {
+            Student student = context.students[i];
+            String studentId = student.getStudentId();
+            List<Enrollment> records = context.byStudent.getOrDefault(studentId, List.of());
+
+            List<Grade> grades = new ArrayList<>(records.size());
+            int attempted = 0;
+            int earned = 0;
+            int graded = 0;
+            long qualityPointTenths = 0;
+            for (Enrollment enrollment : records) {
+                int credits = context.courseCredits.getOrDefault(enrollment.courseCode(), 0);
+                attempted += credits;
+                if (enrollment.isGraded()) {
+                    Grade grade = enrollment.finalGrade();
+                    grades.add(grade);
+                    graded += credits;
+                    qualityPointTenths += Math.round(grade.getGradePoint() * 10.0) * credits;
+                    if (grade.isPassing()) {
+                        earned += credits;
+                    }
+                }
+            }
+
+            var totals = new CreditTotals(attempted, earned, graded, qualityPointTenths / 10.0);
+            boolean creditsStale = !totals.equals(enrollmentService.getCreditTotals(studentId));
+            if (creditsStale) {
+                mismatches++;
+            }
+
+            double recomputedGPA = GradeStats.of(grades).getGPA();
+            if (creditsStale || recomputedGPA != student.getGPA()) {
+                updates.add(studentId);
+            }
+            AcademicStanding previous = student.getStanding();
+            AcademicStanding recomputed = AcademicStanding.fromGPA(recomputedGPA);
+            if (previous != recomputed) {
+                changes.add(new StandingChange(studentId, student.getGPA(), recomputedGPA,
+                    previous, recomputed));
+            }
+        }
+        return new PartitionResult(partition, to - from, mismatches, changes, updates);
+    }
+
+    private static String header(int students, int partitionSize, long fingerprint, long version) {
+        return HEADER + '\t' + students + '\t' + partitionSize + '\t' + Long.toHexString(fingerprint)
+            + '\t' + version;
+    }
+
+    /**
+     * FNV-1a over the sorted student IDs, so a changed population is detected
+     */
+    private static long fingerprint(Student[] students) {
+        long hash = 0xcbf29ce484222325L;
+        for (Student student : students) {
+            String id = student.getStudentId();
+            for (int i = 0; i < id.length(); i++) {
+                hash = (hash ^ id.charAt(i)) * 0x100000001b3L;
+            }
+            hash = (hash ^ '\n') * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private record PartitionResult(int partition, int students, int creditMismatches,
+                                   List<StandingChange> changes, List<String> updates) {
+    }
+
+    private record RunContext(Student[] students, Map<String, List<Enrollment>> byStudent,
+                              Map<String, Integer> courseCredits, Checkpoint checkpoint) {
+    }
+
+    /**
+     * Recursive split of the pending partition indexes; each leaf is one partition
+     * ForkJoinTask is Serializable, but tasks are never serialized - the job and context are transient
+     */
+    private static final class PartitionTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient TermEndRecomputeJob job;
+        private final transient RunContext context;
+        private final int[] pending;
+        private final int from;
+        private final int to;
+
+        PartitionTask(TermEndRecomputeJob job, RunContext context, int[] pending, int from, int to) {
+            this.job = job;
+            this.context = context;
+            this.pending = pending;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                context.checkpoint.record(job.recompute(context, pending[from]));
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new PartitionTask(job, context, pending, from, mid),
+                      new PartitionTask(job, context, pending, mid, to));
+        }
+    }
+
+    /**
+     * Append-only checkpoint file plus the partitions it already holds
+     */
+    private static final class Checkpoint {
+        private final Map<Integer, PartitionResult> completed = new TreeMap<>();
+        private final BufferedWriter writer;
+
+        private Checkpoint(BufferedWriter writer) {
+            this.writer = writer;
+        }
+
+        /**
+         * Load finished partitions from a matching checkpoint, then rewrite the
+         * file with just those so a torn last line from a crash is dropped.
+         * The rewrite goes to a temporary file that replaces the old one in a
+         * single move, so a crash here never loses the partitions already done.
+         */
+        static Checkpoint open(Path file, String header) throws IOException {
+            Map<Integer, PartitionResult> loaded = Files.exists(file) ? load(file, header) : Map.of();
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (BufferedWriter rewrite = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                rewrite.write(header);
+                rewrite.newLine();
+                for (PartitionResult result : loaded.values()) {
+                    write(rewrite, result);
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            var checkpoint = new Checkpoint(Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND));
+            checkpoint.completed.putAll(loaded);
+            return checkpoint;
+        }
+
+        private static Map<Integer, PartitionResult> load(Path file, String header) throws IOException {
+            Map<Integer, List<StandingChange>> changes = new HashMap<>();
+            Map<Integer, List<String>> updates = new HashMap<>();
+            Map<Integer, PartitionResult> done = new TreeMap<>();
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                if (!header.equals(reader.readLine())) {
+                    return Map.of();  // different population or not a checkpoint - start over
+                }
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] f = line.split("\t");
+                    try {
+                        if (f[0].equals(CHANGE) && f.length == 7) {
+                            changes.computeIfAbsent(Integer.parseInt(f[1]), p -> new ArrayList<>())
+                                .add(new StandingChange(f[2], Double.parseDouble(f[3]), Double.parseDouble(f[4]),
+                                    AcademicStanding.valueOf(f[5]), AcademicStanding.valueOf(f[6])));
+                        } else if (f[0].equals(UPDATE) && f.length == 3) {
+                            updates.computeIfAbsent(Integer.parseInt(f[1]), p -> new ArrayList<>()).add(f[2]);
+                        } else if (f[0].equals(DONE) && f.length == 4) {
+                            int partition = Integer.parseInt(f[1]);
+                            done.put(partition, new PartitionResult(partition, Integer.parseInt(f[2]),
+                                Integer.parseInt(f[3]), changes.getOrDefault(partition, List.of()),
+                                updates.getOrDefault(partition, List.of())));
+                        }
+                    } catch (IllegalArgumentException e) {
+                        // torn line from a crash mid-write - its partition has no DONE and is redone
+                    }
+                }
+            }
+            return done;
+        }
+
+        /**
+         * Append a finished partition and flush; its lines are written as one block
+         */
+        synchronized void record(PartitionResult result) {
+            try {
+                write(writer, result);
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            completed.put(result.partition(), result);
+        }
+
+        private static void write(BufferedWriter out, PartitionResult result) throws IOException {
+            for (StandingChange change : result.changes()) {
+                out.write(CHANGE + '\t' + result.partition() + '\t' + change.studentId() + '\t'
+                    + change.previousGPA() + '\t' + change.recomputedGPA() + '\t'
+                    + change.previous().name() + '\t' + change.recomputed().name());
+                out.newLine();
+            }
+            for (String studentId : result.updates()) {
+                out.write(UPDATE + '\t' + result.partition() + '\t' + studentId);
+                out.newLine();
+            }
+            out.write(DONE + '\t' + result.partition() + '\t' + result.students() + '\t'
+                + result.creditMismatches());
+            out.newLine();
+        }
+
+        void close() throws IOException {
+            writer.close();
+        }
+    }
+}
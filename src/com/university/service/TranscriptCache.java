@@ -0,0 +1,147 @@
+package com.university.service;
+
+import com.university.model.Student;
+import com.university.model.Transcript;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-student cache of built transcripts and rendered reports demonstrating:
+ * - LinkedHashMap in access order as an LRU cache
+ * - Version-based invalidation
+ * - Lazy computation
+ *
+ * Each entry remembers the student's enrollment version
+ * (EnrollmentService.getStudentVersion) and profile version
+ * (Person.getProfileVersion) it was built from. A repeat view is served from
+ * memory until enrollStudent, assignGrade or dropCourse changes the first, or
+ * a name or major change bumps the second. An entry built on an earlier day
+ * is rebuilt too, so the report's "Generated:" date is always today's. The
+ * cache is not thread-safe.
+ *
+ * OOP Features Demonstrated:
+ * - Composition (wraps EnrollmentService)
+ * - Private nested class
+ * - Anonymous subclass overriding removeEldestEntry
+ */
+public class TranscriptCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private final EnrollmentService enrollmentService;
+    private final Map<String, Entry> entries;
+    private final TranscriptRenderer renderer;
+    private long hits;
+    private long misses;
+
+    public TranscriptCache(EnrollmentService enrollmentService) {
+        this(enrollmentService, DEFAULT_MAX_ENTRIES);  // this() constructor chaining
+    }
+
+    public TranscriptCache(EnrollmentService enrollmentService, int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache must hold at least one entry");
+        }
+        this.enrollmentService = enrollmentService;
+        this.renderer = new TranscriptRenderer();
+        // accessOrder = true: iteration order is least-recently-used first
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Get the student's transcript, rebuilding it only if their records changed
+     */
+    public Transcript getTranscript(Student student) {
+        return lookup(student).transcript;
+    }
+
+    /**
+     * Get the rendered transcript report, rendering it at most once per version
+     */
+    public String getReport(Student student) {
+        Entry entry = lookup(student);
+        if (entry.report == null) {
+            var out = new StringWriter(1024);
+            try {
+                renderer.render(entry.transcript, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);  // StringWriter never throws
+            }
+            entry.report = out.toString();
+        }
+        return entry.report;
+    }
+
+    /**
+     * Drop a student's entry explicitly
+     */
+    public void invalidate(String studentId) {
+        entries.remove(studentId);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits;
+    }
+
+    public long getMissCount() {
+        return misses;
+    }
+
+    private Entry lookup(Student student) {
+        String studentId = student.getStudentId();
+        long version = enrollmentService.getStudentVersion(studentId);
+        int profileVersion = student.getProfileVersion();
+
+        Entry entry = entries.get(studentId);
+        // GPA, name and major are kept on the student, so changes there also invalidate the entry
+        if (entry != null && entry.version == version
+                && entry.profileVersion == profileVersion
+                && entry.transcript.getGpa() == student.getGPA()
+                && entry.transcript.getGeneratedDate().equals(LocalDate.now())) {
+            hits++;
+            return entry;
+        }
+
+        misses++;
+        Transcript transcript = Transcript.createFromStudent(student,
+            enrollmentService.getStudentSnapshot(studentId),  // shared, not copied
+            enrollmentService.getCreditTotals(studentId));
+        entry = new Entry(version, profileVersion, transcript);
+        entries.put(studentId, entry);
+        return entry;
+    }
+
+    /**
+     * Cached transcript plus its lazily rendered text
+     */
+    private static final class Entry {
+        private final long version;
+        private final int profileVersion;
+        private final Transcript transcript;
+        private String report;
+
+        private Entry(long version, int profileVersion, Transcript transcript) {
+            this.version = version;
+            this.profileVersion = profileVersion;
+            this.transcript = transcript;
+        }
+    }
+}
@@ -0,0 +1,407 @@
+package com.university.service;
+
+import com.university.model.Enrollment;
+import com.university.model.Grade;
+import com.university.model.Transcript;
+import com.university.metrics.BulkOperationEvent;
+import com.university.metrics.Metrics;
+import com.university.metrics.TranscriptRenderEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Streaming transcript renderer demonstrating:
+ * - Reusable buffers instead of per-call StringBuilder/String.format
+ * - Writing to a Writer or a WritableByteChannel
+ * - Parallel batch rendering
+ *
+ * Produces exactly the same text as Transcript.generateTranscriptReport(),
+ * but writes it straight into the target through one reusable char buffer.
+ * A renderer instance is not thread-safe; batch methods give every worker
+ * thread its own renderer.
+ *
+ * OOP Features Demonstrated:
+ * - Encapsulation of mutable buffer state
+ * - Method overloading (render to Writer / channel)
+ * - Static factory-style batch methods
+ */
+public class TranscriptRenderer {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int LINE_WIDTH = 50;
+    private static final int CODE_WIDTH = 10;
+    private static final int DATE_WIDTH = 30;
+
+    // Constant lines built once instead of "=".repeat(50) on every call
+    private static final char[] DOUBLE_RULE = rule('=');
+    private static final char[] SINGLE_RULE = rule('-');
+    private static final String IN_PROGRESS = "In Progress";
+
+    // Grade.toString() allocates (name().replace), so labels are cached by ordinal
+    private static final String[] GRADE_LABELS = gradeLabels();
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final CharBuffer charView = CharBuffer.wrap(buffer);
+    private final ByteBuffer byteBuffer = ByteBuffer.allocate(BUFFER_SIZE * 3);
+    // REPLACE matches String.getBytes and guarantees the encoder always makes progress
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private int position;
+    private long charsWritten;  // for metrics, counted at each flush
+
+    // Current target - exactly one of these is set while rendering
+    private Writer writer;
+    private WritableByteChannel channel;
+
+    /**
+     * Render a transcript to a character stream
+     */
+    public void render(Transcript transcript, Writer out) throws IOException {
+        var event = new TranscriptRenderEvent();
+        event.begin();
+        long start = System.nanoTime();
+        this.writer = out;
+        try {
+            writeTranscript(transcript);
+            flushBuffer();
+        } finally {
+            this.writer = null;
+            this.position = 0;
+            recordRender(start, event, transcript);
+        }
+    }
+
+    /**
+     * Overloaded method - render a transcript as UTF-8 bytes to a channel
+     */
+    public void render(Transcript transcript, WritableByteChannel out) throws IOException {
+        var event = new TranscriptRenderEvent();
+        event.begin();
+        long start = System.nanoTime();
+        this.channel = out;
+        try {
+            writeTranscript(transcript);
+            flushBuffer();
+        } finally {
+            this.channel = null;
+            this.position = 0;
+            encoder.reset();
+            recordRender(start, event, transcript);
+        }
+    }
+
+    /**
+     * Batch mode - render every transcript in parallel to its own file
+     * named {@code <studentId>.txt} inside the given directory
+     */
+    public static void renderAll(List<Transcript> transcripts, Path directory) throws IOException {
+        var event = new BulkOperationEvent();
+        event.begin();
+        Files.createDirectories(directory);
+        ThreadLocal<TranscriptRenderer> renderers = ThreadLocal.withInitial(TranscriptRenderer::new);
+
+        try {
+            transcripts.parallelStream().forEach(transcript -> {
+                Path file = directory.resolve(transcript.getStudentId() + ".txt");
+                try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    renderers.get().render(transcript, out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        commitBulk(event, "renderAll", directory.toString(), transcripts.size());
+    }
+
+    /**
+     * Overloaded batch mode - render every transcript in parallel into one
+     * concatenated stream, preserving the order of the input list
+     */
+    public static void renderAll(List<Transcript> transcripts, WritableByteChannel out) throws IOException {
+        var event = new BulkOperationEvent();
+        event.begin();
+        int workers = Math.max(1, Runtime.getRuntime().availableProcessors());
+        int chunkSize = Math.max(1, (transcripts.size() + workers - 1) / workers);
+
+        // Each chunk is rendered on its own thread into a private byte array
+        List<CompletableFuture<ByteArrayOutputStream>> chunks = new ArrayList<>();
+        for (int start = 0; start < transcripts.size(); start += chunkSize) {
+            List<Transcript> chunk = transcripts.subList(start,
+                Math.min(start + chunkSize, transcripts.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> renderChunk(chunk)));
+        }
+
+        try {
+            for (CompletableFuture<ByteArrayOutputStream> chunk : chunks) {
+                chunk.join().writeTo(Channels.newOutputStream(out));
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw e;
+        }
+        commitBulk(event, "renderAll", "stream", transcripts.size());
+    }
+
+    private static ByteArrayOutputStream renderChunk(List<Transcript> chunk) {
+        var bytes = new ByteArrayOutputStream(chunk.size() * 1024);
+        var renderer = new TranscriptRenderer();
+        WritableByteChannel target = Channels.newChannel(bytes);
+        try {
+            for (Transcript transcript : chunk) {
+                renderer.render(transcript, target);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes the same layout as Transcript.generateTranscriptReport()
+     */
+    private void writeTranscript(Transcript transcript) throws IOException {
+        write(DOUBLE_RULE);
+        write("OFFICIAL TRANSCRIPT\n");
+        write(DOUBLE_RULE);
+        write('\n');
+
+        write("Student ID: ").write(transcript.getStudentId()).write('\n');
+        write("Name: ").write(transcript.getStudentName()).write('\n');
+        write("Major: ").write(transcript.getMajor().getFullName()).write('\n');
+        write("GPA: ").writeTwoDecimals(transcript.getGpa()).write('\n');
+        if (transcript.getCreditTotals() != null) {
+            write("Weighted GPA: ").writeTwoDecimals(transcript.getWeightedGpa()).write('\n');
+        }
+        write("Total Credits: ").writeInt(transcript.getTotalCredits()).write('\n');
+        write("Generated: ").writeDate(transcript.getGeneratedDate());
+        write('\n');
+        write('\n');
+
+        write("COURSE HISTORY:\n");
+        write(SINGLE_RULE);
+
+        for (Enrollment enrollment : transcript.getEnrollments()) {
+            String courseCode = enrollment.courseCode();
+            write(courseCode).pad(CODE_WIDTH - courseCode.length()).write("  ");
+            pad(DATE_WIDTH - writeDate(enrollment.enrollmentDate())).write("  ");
+            Grade grade = enrollment.finalGrade();
+            write(grade != null ? GRADE_LABELS[grade.ordinal()] : IN_PROGRESS).write('\n');
+        }
+
+        write(DOUBLE_RULE);
+    }
+
+    private void recordRender(long start, TranscriptRenderEvent event, Transcript transcript) {
+        Metrics.TRANSCRIPTS.recordRender(System.nanoTime() - start, charsWritten);
+        event.end();
+        if (event.shouldCommit()) {
+            event.studentId = transcript.getStudentId();
+            event.characters = charsWritten;
+            event.commit();
+        }
+        charsWritten = 0;
+    }
+
+    private static void commitBulk(BulkOperationEvent event, String operation, String target, int items) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.target = target;
+            event.items = items;
+            event.commit();
+        }
+    }
+
+    // ---- buffer primitives (no allocation on the hot path) ----
+
+    private TranscriptRenderer write(char c) throws IOException {
+        ensureCapacity(1);
+        buffer[position++] = c;
+        return this;
+    }
+
+    private TranscriptRenderer write(char[] chars) throws IOException {
+        ensureCapacity(chars.length);
+        System.arraycopy(chars, 0, buffer, position, chars.length);
+        position += chars.length;
+        return this;
+    }
+
+    private TranscriptRenderer write(String s) throws IOException {
+        int offset = 0;
+        int length = s.length();
+        while (offset < length) {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+            int count = Math.min(length - offset, buffer.length - position);
+            s.getChars(offset, offset + count, buffer, position);
+            position += count;
+            offset += count;
+        }
+        return this;
+    }
+
+    /**
+     * Pads a left-justified field, like {@code %-Ns}.
+     * Longer values are not truncated, so the count may be negative.
+     */
+    private TranscriptRenderer pad(int spaces) throws IOException {
+        for (int i = 0; i < spaces; i++) {
+            write(' ');
+        }
+        return this;
+    }
+
+    private TranscriptRenderer writeInt(int value) throws IOException {
+        long magnitude = value;  // widened so Integer.MIN_VALUE negates safely
+        if (magnitude < 0) {
+            write('-');
+            magnitude = -magnitude;
+        }
+        int digits = 1;
+        for (long rest = magnitude / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        ensureCapacity(digits);
+        writeFixed(magnitude, digits);
+        return this;
+    }
+
+    /**
+     * Equivalent of {@code String.format("%.2f", value)} for GPA values.
+     * Formatter rounds the shortest decimal form HALF_UP (2.675 -> 2.68), while
+     * Math.round(value * 100) sees 267.49999... - so values within a hair of a
+     * tie take the exact BigDecimal route; everything else stays allocation-free.
+     */
+    private TranscriptRenderer writeTwoDecimals(double value) throws IOException {
+        if (!(value >= 0.0 && value < 1e7)) {
+            return write(String.format("%.2f", value));  // negative, huge or NaN - rare, use the legacy path
+        }
+        double scaled = value * 100.0;
+        double fractionPart = scaled - Math.floor(scaled);
+        long hundredths = Math.abs(fractionPart - 0.5) > 1e-6
+            ? Math.round(scaled)
+            : new BigDecimal(Double.toString(value)).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+        writeInt((int) (hundredths / 100)).write('.');
+        int fraction = (int) (hundredths % 100);
+        write((char) ('0' + fraction / 10));
+        return write((char) ('0' + fraction % 10));
+    }
+
+    /**
+     * Writes a LocalDate in ISO format (yyyy-MM-dd) without toString()
+     * and returns the number of characters written
+     */
+    private int writeDate(LocalDate date) throws IOException {
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            String text = date.toString();
+            write(text);
+            return text.length();
+        }
+        ensureCapacity(10);
+        writeFixed(year, 4);
+        buffer[position++] = '-';
+        writeFixed(date.getMonthValue(), 2);
+        buffer[position++] = '-';
+        writeFixed(date.getDayOfMonth(), 2);
+        return 10;
+    }
+
+    private void writeFixed(long value, int width) {
+        for (int i = position + width - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        position += width;
+    }
+
+    private void ensureCapacity(int needed) throws IOException {
+        if (position + needed > buffer.length) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position == 0) {
+            return;
+        }
+        charsWritten += position;
+        if (channel != null) {
+            encodeToChannel();
+        } else {
+            writer.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    private void encodeToChannel() throws IOException {
+        charView.clear().limit(position);
+        while (true) {
+            CoderResult result = encoder.encode(charView, byteBuffer, false);
+            if (result.isError()) {
+                result.throwException();  // unreachable with REPLACE, but never spin
+            }
+            byteBuffer.flip();
+            while (byteBuffer.hasRemaining()) {
+                channel.write(byteBuffer);
+            }
+            byteBuffer.clear();
+            if (result.isUnderflow()) {
+                break;
+            }
+        }
+        // A dangling high surrogate stays in the buffer for the next flush
+        int remaining = charView.remaining();
+        if (remaining > 0) {
+            buffer[0] = charView.get();
+        }
+        position = remaining;
+    }
+
+    private static char[] rule(char c) {
+        char[] line = new char[LINE_WIDTH + 1];
+        Arrays.fill(line, 0, LINE_WIDTH, c);
+        line[LINE_WIDTH] = '\n';
+        return line;
+    }
+
+    private static String[] gradeLabels() {
+        Grade[] grades = Grade.values();
+        String[] labels = new String[grades.length];
+        for (Grade grade : grades) {
+            labels[grade.ordinal()] = grade.toString();
+        }
+        return labels;
+    }
+}
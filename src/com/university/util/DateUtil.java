@@ -116,6 +116,28 @@ public class DateUtil {
         };
     }
 
+    /**
+     * Get a sortable index for the semester containing the date:
+     * year * 3 + 0 (Spring), 1 (Summer) or 2 (Fall)
+     */
+    public static int getSemesterIndex(LocalDate date) {
+        int month = date.getMonthValue();
+        int season = month <= 5 ? 0 : month <= 8 ? 1 : 2;
+        return date.getYear() * 3 + season;
+    }
+
+    /**
+     * Get the semester name for an index from getSemesterIndex
+     */
+    public static String getSemester(int semesterIndex) {
+        int year = Math.floorDiv(semesterIndex, 3);
+        return switch (Math.floorMod(semesterIndex, 3)) {
+            case 0 -> "Spring " + year;
+            case 1 -> "Summer " + year;
+            default -> "Fall " + year;
+        };
+    }
+
     /**
      * Check if student is eligible by age
      */
@@ -115,6 +115,32 @@ public class GradeUtil {
         return Grade.fromPercentage(percentage);
     }
 
+    /**
+     * Parse a grade written as a letter ("A+", "B-", "C"), an enum name
+     * ("A_PLUS"), its display form ("A-PLUS") or a percentage ("87")
+     */
+    public static Grade parseGrade(String text) {
+        if (text == null || text.isEmpty()) {
+            throw new InvalidGradeException("Grade cannot be empty");
+        }
+        if (text.charAt(0) >= '0' && text.charAt(0) <= '9') {
+            try {
+                return getGradeFromPercentage(Integer.parseInt(text));
+            } catch (NumberFormatException e) {
+                throw new InvalidGradeException("Invalid percentage: " + text);
+            }
+        }
+        String name = text.toUpperCase();
+        if (name.length() == 2 && (name.charAt(1) == '+' || name.charAt(1) == '-')) {
+            name = name.charAt(0) + (name.charAt(1) == '+' ? "_PLUS" : "_MINUS");
+        }
+        try {
+            return Grade.valueOf(name.replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidGradeException("Unknown grade: " + text);
+        }
+    }
+
     /**
      * Convert numeric grade to letter using switch expression
      */
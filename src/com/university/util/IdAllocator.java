@@ -0,0 +1,220 @@
+package com.university.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe ID allocator demonstrating:
+ * - Lock-free allocation with AtomicLong
+ * - Block leasing from a shared high-water mark
+ * - Nested interface with static factory methods
+ *
+ * IDs are handed out from a leased block of numbers with a single
+ * getAndIncrement(), so the common path takes no lock. When a block runs
+ * out, a new one is leased from the BlockSource. A file-backed source
+ * persists the high-water mark and locks the file while leasing, so several
+ * processes can share one sequence without coordinating per ID. Numbers
+ * left in a block when a process stops are skipped, never reused.
+ *
+ * OOP Features Demonstrated:
+ * - Encapsulation
+ * - Interfaces (nested)
+ * - Atomic variables
+ * - Char arrays instead of String.format
+ */
+public final class IdAllocator {
+
+    /**
+     * Source of number blocks - the shared high-water mark
+     */
+    public interface BlockSource {
+        /**
+         * Reserve the next {@code size} numbers and return the first one
+         */
+        long lease(int size);
+
+        /**
+         * In-process source starting at 1 (nothing survives a restart)
+         */
+        static BlockSource inMemory() {
+            AtomicLong highWaterMark = new AtomicLong();
+            return size -> highWaterMark.getAndAdd(size) + 1;
+        }
+
+        /**
+         * Persistent source storing the high-water mark in a file.
+         * Calls with the same path in one JVM share a single source, since a
+         * second FileChannel lock on the file would throw OverlappingFileLockException.
+         */
+        static BlockSource file(Path path) {
+            return FileBlockSource.forPath(path);
+        }
+    }
+
+    public static final int DEFAULT_MIN_DIGITS = 5;
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+    private static final int MAX_DIGITS = 19;  // Long.MAX_VALUE
+
+    private final String prefix;
+    private final int minDigits;
+    private final int blockSize;
+    private final BlockSource source;
+    private volatile Block current;
+
+    public IdAllocator(String prefix, BlockSource source) {
+        this(prefix, source, DEFAULT_BLOCK_SIZE, DEFAULT_MIN_DIGITS);
+    }
+
+    public IdAllocator(String prefix, BlockSource source, int blockSize, int minDigits) {
+        if (prefix == null || source == null) {
+            throw new IllegalArgumentException("Prefix and block source cannot be null");
+        }
+        if (blockSize < 1 || minDigits < 1 || minDigits > MAX_DIGITS) {
+            throw new IllegalArgumentException("Invalid block size or digit count");
+        }
+        this.prefix = prefix;
+        this.source = source;
+        this.blockSize = blockSize;
+        this.minDigits = minDigits;
+        this.current = Block.EXHAUSTED;
+    }
+
+    /**
+     * Allocate the next number (lock-free unless a new block must be leased)
+     */
+    public long nextValue() {
+        while (true) {
+            Block block = current;
+            long value = block.next.getAndIncrement();
+            if (value < block.end) {
+                return value;
+            }
+            refill(block);
+        }
+    }
+
+    /**
+     * Allocate the next formatted ID, e.g. STU00042
+     * Values beyond the minimum width simply get more digits (STU1234567)
+     */
+    public String nextId() {
+        return format(prefix, nextValue(), minDigits);
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Zero-padded formatting without String.format
+     */
+    public static String format(String prefix, long value, int minDigits) {
+        if (value < 0) {
+            throw new IllegalArgumentException("ID value cannot be negative");
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        int width = Math.max(digits, minDigits);
+
+        char[] chars = new char[prefix.length() + width];
+        prefix.getChars(0, prefix.length(), chars, 0);
+        for (int i = chars.length - 1; i >= prefix.length(); i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Only the thread that finds the block exhausted first leases a new one
+     */
+    private synchronized void refill(Block exhausted) {
+        if (current == exhausted) {
+            long start = source.lease(blockSize);
+            current = new Block(start, start + blockSize);
+        }
+    }
+
+    /**
+     * A leased range [next, end)
+     */
+    private static final class Block {
+        private static final Block EXHAUSTED = new Block(0, 0);
+
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+
+    /**
+     * High-water mark persisted as an 8-byte value in a file.
+     * An exclusive file lock makes leasing safe across processes; within one
+     * JVM there is one instance per file, whose monitor serialises leases.
+     * An empty file starts at 0; any other length is treated as corruption
+     * rather than reset, so issued IDs are never handed out again.
+     */
+    private static final class FileBlockSource implements BlockSource {
+        private static final ConcurrentHashMap<Path, FileBlockSource> BY_PATH = new ConcurrentHashMap<>();
+
+        private final Path path;
+
+        private FileBlockSource(Path path) {
+            this.path = path;
+        }
+
+        static FileBlockSource forPath(Path path) {
+            Path key = path.toAbsolutePath().normalize();
+            return BY_PATH.computeIfAbsent(key, FileBlockSource::new);
+        }
+
+        @Override
+        public synchronized long lease(int size) {
+            try {
+                if (path.getParent() != null) {
+                    Files.createDirectories(path.getParent());
+                }
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    channel.lock();  // released when the channel closes
+
+                    ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+                    long highWaterMark = 0;
+                    long fileSize = channel.size();
+                    if (fileSize != 0) {
+                        if (fileSize != Long.BYTES) {
+                            throw new IOException("Corrupt ID file: expected " + Long.BYTES
+                                + " bytes but found " + fileSize);
+                        }
+                        while (buffer.hasRemaining()) {
+                            if (channel.read(buffer, buffer.position()) < 0) {
+                                throw new IOException("Unexpected end of ID file");
+                            }
+                        }
+                        highWaterMark = buffer.getLong(0);
+                    }
+
+                    buffer.clear();
+                    buffer.putLong(0, highWaterMark + size);
+                    channel.write(buffer, 0);
+                    channel.force(true);
+                    return highWaterMark + 1;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot lease ID block from " + path, e);
+            }
+        }
+    }
+}
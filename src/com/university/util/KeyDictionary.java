@@ -0,0 +1,78 @@
+package com.university.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Interning dictionary demonstrating dictionary encoding:
+ * - Each distinct string key gets a dense int ordinal (0, 1, 2, ...)
+ * - Ordinals can be decoded back to the original string
+ *
+ * Used to turn student IDs and course codes into int surrogate keys so
+ * records can be packed into primitives and compared with ==.
+ * Not thread-safe.
+ *
+ * OOP Features Demonstrated:
+ * - Encapsulation
+ * - HashMap and arrays working together
+ */
+public final class KeyDictionary {
+
+    public static final int NOT_FOUND = -1;
+
+    private final Map<String, Integer> ordinals;
+    private String[] keys;
+    private int size;
+
+    public KeyDictionary() {
+        this(16);
+    }
+
+    public KeyDictionary(int expectedSize) {
+        this.ordinals = new HashMap<>(Math.max(16, expectedSize * 4 / 3 + 1));
+        this.keys = new String[Math.max(16, expectedSize)];
+    }
+
+    /**
+     * Get the ordinal for a key, assigning the next one if it is new
+     */
+    public int intern(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        Integer existing = ordinals.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        keys[size] = key;
+        ordinals.put(key, size);
+        return size++;
+    }
+
+    /**
+     * Get the ordinal for a key without assigning one
+     * @return the ordinal, or NOT_FOUND
+     */
+    public int lookup(String key) {
+        Integer existing = ordinals.get(key);
+        return existing != null ? existing : NOT_FOUND;
+    }
+
+    /**
+     * Decode an ordinal back to its key
+     */
+    public String keyOf(int ordinal) {
+        if (ordinal < 0 || ordinal >= size) {
+            throw new IndexOutOfBoundsException("Unknown ordinal: " + ordinal);
+        }
+        return keys[ordinal];
+    }
+
+    public int size() {
+        return size;
+    }
+}
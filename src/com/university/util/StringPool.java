@@ -0,0 +1,132 @@
+package com.university.util;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Weakly-referenced string intern pool demonstrating:
+ * - Lock striping (one WeakHashMap per stripe)
+ * - WeakReference values so pooled strings can still be collected
+ * - LongAdder counters for contention-free statistics
+ *
+ * intern() returns one shared instance per distinct value, so millions of
+ * records holding "Smith" or "Room 101" keep one copy instead of one each.
+ * Unlike String.intern() the pool holds its strings weakly: once no record
+ * refers to a value it is dropped at the next GC. Thread-safe.
+ *
+ * Only worth using for fields that repeat (names, rooms, days); pooling a
+ * unique value such as an email address costs an entry and saves nothing.
+ *
+ * OOP Features Demonstrated:
+ * - Encapsulation
+ * - Static final singleton
+ * - Nested record
+ */
+public final class StringPool {
+
+    /** Pool shared by the model classes and the importers */
+    public static final StringPool SHARED = new StringPool();
+
+    private static final int STRIPES = 16;  // power of two
+    private static final int STRING_HEADER_BYTES = 24;  // String object, compressed oops
+    private static final int ARRAY_HEADER_BYTES = 16;   // its byte[] value
+
+    private final WeakHashMap<String, WeakReference<String>>[] stripes;
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    /**
+     * Pool statistics; bytesSaved estimates the duplicates intern() let go
+     */
+    public record Stats(long lookups, long hits, int distinct, long bytesSaved) {
+        public double hitRate() {
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})  // no generic array creation in Java
+    public StringPool() {
+        this.stripes = new WeakHashMap[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new WeakHashMap<>();
+        }
+    }
+
+    /**
+     * Get the pooled instance equal to value, pooling value if it is new
+     * @return the shared instance, or null for null
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        lookups.increment();
+        int h = value.hashCode();
+        WeakHashMap<String, WeakReference<String>> stripe = stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+        synchronized (stripe) {
+            WeakReference<String> ref = stripe.get(value);
+            String pooled = ref != null ? ref.get() : null;
+            if (pooled != null) {
+                hits.increment();
+                if (pooled != value) {
+                    bytesSaved.add(estimateSize(value));
+                }
+                return pooled;
+            }
+            stripe.put(value, new WeakReference<>(value));
+            return value;
+        }
+    }
+
+    /**
+     * Intern every element of an array in place
+     */
+    public String[] internAll(String[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = intern(values[i]);
+        }
+        return values;
+    }
+
+    /**
+     * Number of distinct strings currently pooled (collected ones excluded)
+     */
+    public int size() {
+        int size = 0;
+        for (WeakHashMap<String, WeakReference<String>> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    public Stats getStats() {
+        return new Stats(lookups.sum(), hits.sum(), size(), bytesSaved.sum());
+    }
+
+    /**
+     * Human-readable savings report
+     */
+    public String report() {
+        Stats stats = getStats();
+        return String.format("String pool: %,d distinct, %,d lookups, %.1f%% hits, ~%,d KB saved",
+            stats.distinct(), stats.lookups(), stats.hitRate() * 100, stats.bytesSaved() / 1024);
+    }
+
+    public void resetStats() {
+        lookups.reset();
+        hits.reset();
+        bytesSaved.reset();
+    }
+
+    /**
+     * Shallow size of a Latin-1 string plus its byte[], rounded to 8-byte alignment
+     */
+    private static long estimateSize(String value) {
+        long array = (ARRAY_HEADER_BYTES + value.length() + 7) & ~7L;
+        return STRING_HEADER_BYTES + array;
+    }
+}
@@ -1,17 +1,41 @@
 package com.university.util;
 
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
 /**
  * Validation utility class demonstrating:
  * - Static utility methods
  * - String API usage
  * - Method overloading
  * 
+ * The fixed-format validators are hand-rolled single-pass checks using
+ * charAt(), so they neither compile a regex nor allocate per call.
+ * 
  * OOP Features Demonstrated:
  * - Static methods
  * - String API
  * - Method overloading
  */
 public class ValidationUtil {
+
+    private static final String STUDENT_ID_PREFIX = "STU";
+    private static final int STUDENT_ID_MIN_DIGITS = 5;   // IdAllocator.DEFAULT_MIN_DIGITS
+    private static final int STUDENT_ID_MAX_DIGITS = 12;
+
+    // Custom patterns are compiled once and reused; callers pick the patterns, so
+    // only the PATTERN_CACHE_SIZE most recently used are kept (LRU, guarded by itself)
+    private static final int PATTERN_CACHE_SIZE = 64;
+    private static final Map<String, Pattern> PATTERN_CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+            return size() > PATTERN_CACHE_SIZE;
+        }
+    };
     
     private ValidationUtil() {
         throw new UnsupportedOperationException("Utility class");
@@ -26,11 +50,21 @@ public class ValidationUtil {
             return false;
         }
         
-        // String API: contains(), indexOf(), lastIndexOf()
-        return email.contains("@") && 
-               email.indexOf("@") > 0 &&
-               email.indexOf("@") == email.lastIndexOf("@") &&
-               email.indexOf("@") < email.lastIndexOf(".");
+        // Single pass: exactly one '@', not first, followed by a '.' somewhere after it
+        int at = -1;
+        int lastDot = -1;
+        for (int i = 0; i < email.length(); i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                if (at >= 0) {
+                    return false;  // second '@'
+                }
+                at = i;
+            } else if (c == '.') {
+                lastDot = i;
+            }
+        }
+        return at > 0 && at < lastDot;
     }
 
     /**
@@ -41,9 +75,17 @@ public class ValidationUtil {
             return false;
         }
         
-        // String API: replaceAll(), matches()
-        String cleaned = phone.replaceAll("[\\s\\-\\(\\)]", "");
-        return cleaned.matches("\\d{10,15}");
+        // Same rule as stripping [\s\-()] and matching \d{10,15}, without building the cleaned string
+        int digits = 0;
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (isAsciiDigit(c)) {
+                digits++;
+            } else if (!isPhoneSeparator(c)) {
+                return false;
+            }
+        }
+        return digits >= 10 && digits <= 15;
     }
 
     /**
@@ -51,14 +93,37 @@ public class ValidationUtil {
      * Method overloading - different parameters
      */
     public static boolean isValidStudentId(String id) {
-        return id != null && id.matches("STU\\d{5}");
+        // Equivalent to matching STU\d{5,12} - IDs grow past 5 digits once 99,999 is used
+        if (id == null
+                || id.length() < STUDENT_ID_PREFIX.length() + STUDENT_ID_MIN_DIGITS
+                || id.length() > STUDENT_ID_PREFIX.length() + STUDENT_ID_MAX_DIGITS
+                || !id.startsWith(STUDENT_ID_PREFIX)) {
+            return false;
+        }
+        for (int i = STUDENT_ID_PREFIX.length(); i < id.length(); i++) {
+            if (!isAsciiDigit(id.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
      * Overloaded validation with custom pattern
      */
     public static boolean isValidStudentId(String id, String pattern) {
-        return id != null && id.matches(pattern);
+        return id != null && compiled(pattern).matcher(id).matches();
+    }
+
+    private static Pattern compiled(String pattern) {
+        synchronized (PATTERN_CACHE) {
+            Pattern compiled = PATTERN_CACHE.get(pattern);
+            if (compiled == null) {
+                compiled = Pattern.compile(pattern);  // throws before anything is cached
+                PATTERN_CACHE.put(pattern, compiled);
+            }
+            return compiled;
+        }
     }
 
     /**
@@ -69,10 +134,53 @@ public class ValidationUtil {
             return false;
         }
         
-        // String API: length(), toUpperCase(), matches()
-        return code.length() >= 5 && 
-               code.length() <= 10 &&
-               code.toUpperCase().matches("[A-Z]{2,4}\\d{3,4}");
+        if (code.length() < 5 || code.length() > 10) {
+            return false;
+        }
+        
+        // Equivalent to code.toUpperCase().matches("[A-Z]{2,4}\\d{3,4}") for ASCII input
+        int i = 0;
+        while (i < code.length() && isAsciiLetter(code.charAt(i))) {
+            i++;
+        }
+        int letters = i;
+        while (i < code.length() && isAsciiDigit(code.charAt(i))) {
+            i++;
+        }
+        int digits = i - letters;
+        return i == code.length() &&
+               letters >= 2 && letters <= 4 &&
+               digits >= 3 && digits <= 4;
+    }
+
+    /**
+     * Bulk validation of a whole column of values.
+     * Returns a BitSet with bit i set when values[i] fails the validator.
+     * Usage: ValidationUtil.findInvalid(emails, ValidationUtil::isValidEmail)
+     */
+    public static BitSet findInvalid(String[] values, Predicate<String> validator) {
+        BitSet failures = new BitSet(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (!validator.test(values[i])) {
+                failures.set(i);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Overloaded bulk validation for a list column
+     */
+    public static BitSet findInvalid(List<String> values, Predicate<String> validator) {
+        BitSet failures = new BitSet(values.size());
+        int i = 0;
+        for (String value : values) {
+            if (!validator.test(value)) {
+                failures.set(i);
+            }
+            i++;
+        }
+        return failures;
     }
 
     /**
@@ -88,6 +196,24 @@ public class ValidationUtil {
         return input.trim().replaceAll("\\s+", " ");
     }
 
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    /**
+     * Characters ignored in phone numbers: regex \s plus - ( )
+     */
+    private static boolean isPhoneSeparator(char c) {
+        return switch (c) {
+            case ' ', '\t', '\n', '\u000B', '\f', '\r', '-', '(', ')' -> true;
+            default -> false;
+        };
+    }
+
     /**
      * Check if string is null or empty
      */